@@ -12,8 +12,11 @@ java {
     targetCompatibility = JavaVersion.VERSION_21
 }
 
+val vectorModule = "--add-modules=jdk.incubator.vector"
+
 application {
     mainClass.set("game.GameServer")
+    applicationDefaultJvmArgs = listOf(vectorModule)
 }
 
 val checkstyleConfig: Configuration by configurations.creating
@@ -55,7 +58,17 @@ dependencies {
 }
 
 tasks {
+    withType<JavaCompile> {
+        options.compilerArgs.add(vectorModule)
+    }
     test {
         useJUnitPlatform()
+        jvmArgs(vectorModule)
+    }
+    register<JavaExec>("generateTables") {
+        description = "Writes the precomputed preflop equity tables loaded by the server at startup."
+        classpath = sourceSets["main"].runtimeClasspath
+        mainClass.set("model.hand.analyzer.EvaluationTables")
+        jvmArgs(vectorModule)
     }
 }
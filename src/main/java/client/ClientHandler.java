@@ -2,126 +2,209 @@ package client;
 
 import game.RegularUpdate;
 import game.Rules;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import game.TimerWheel;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import model.option.Option;
+import network.Connection;
 
 public class ClientHandler {
 
-    private HashMap<UUID, Socket> players = new HashMap<>();
+    /**
+     * Seconds of extra thinking time each player starts with, spent once an action's own time limit runs out.
+     */
+    public static final int DEFAULT_TIME_BANK_SECS = 30;
+
+    /**
+     * Completes a pending response when the client disconnects, so the wait gives up at once. Compared by identity,
+     * so it can never be mistaken for an action the client sent.
+     */
+    private static final ClientMessage.Action DISCONNECTED = new ClientMessage.Action(0, 0);
+
+    /**
+     * Completes a pending response when its deadline, and the player's time bank, run out.
+     */
+    private static final ClientMessage.Action TIMED_OUT = new ClientMessage.Action(0, 0);
+
+    private final Map<UUID, Client> players = new ConcurrentHashMap<>();
+    private final TimerWheel timer;
+    private final long timeBankNanos;
+
+    /**
+     * A player's connection, the response being waited for, if any, and their remaining time bank. The time bank is
+     * only touched by the table's thread.
+     */
+    private static final class Client {
+
+        private final Connection connection;
+        private final AtomicReference<CompletableFuture<ClientMessage.Action>> response = new AtomicReference<>();
+        private long timeBankNanos;
+
+        private Client(Connection connection, long timeBankNanos) {
+            this.connection = connection;
+            this.timeBankNanos = timeBankNanos;
+        }
+    }
 
     public ClientHandler() {
+        this(TimerWheel.SHARED, DEFAULT_TIME_BANK_SECS);
+    }
+
+    /**
+     * Creates a handler that times players' actions on {@code timer}.
+     *
+     * @param timer        runs every action deadline
+     * @param timeBankSecs extra seconds each player may spend, in total, on actions that run past their time limit
+     */
+    public ClientHandler(TimerWheel timer, int timeBankSecs) {
+        this.timer = timer;
+        this.timeBankNanos = TimeUnit.SECONDS.toNanos(timeBankSecs);
     }
 
-    public void addClient(UUID id, Socket socket) {
-        players.put(id, socket);
+    public void addClient(UUID id, Connection connection) {
+        players.put(id, new Client(connection, timeBankNanos));
+    }
+
+    /**
+     * Passes an action received from a player's connection to the table waiting for their response. Actions sent when
+     * it is not the player's turn are ignored.
+     */
+    public void receive(UUID id, ClientMessage.Action action) {
+        var client = players.get(id);
+        if (client != null) {
+            complete(client, action);
+        }
+    }
+
+    /**
+     * Forgets a disconnected player, ending any wait for their response.
+     */
+    public void removeClient(UUID id) {
+        var client = players.remove(id);
+        if (client != null) {
+            complete(client, DISCONNECTED);
+        }
+    }
+
+    /**
+     * Returns the seconds left in a player's time bank.
+     */
+    public long getTimeBankSecs(UUID id) {
+        var client = players.get(id);
+        return client == null ? 0 : TimeUnit.NANOSECONDS.toSeconds(client.timeBankNanos);
     }
 
     public Rules.GameType getDesiredGameType(UUID playerId) {
         return Rules.GameType.HOLDEM;
     }
 
+    /**
+     * Sends every connected player their update, then waits on the calling thread for {@code playerId} to respond.
+     * Updates are only queued on each player's connection, so a slow client delays nobody but itself. The response is
+     * registered, and its deadline started, before any update is sent, so even an immediate reply is never missed.
+     * Players who joined after the updates were built get nothing until the next action.
+     *
+     * @return the option the player chose, check or fold if they run out of time or disconnect, or the first option if
+     *     they choose one that was not offered
+     */
     public Option getDesiredOption(
         UUID playerId, HashMap<UUID, RegularUpdate> updates, List<Option> options
     ) {
-        var threads = new ArrayList<Thread>();
-        var ref = new Object() {
-            Option option = options.get(0);
-        };
-        for (var entry : players.entrySet()) {
-            var id = entry.getKey();
-            var socket = entry.getValue();
-            var update = updates.get(id);
-            var thread = new Thread(() -> {
-                sendMessage(socket, update);
-                if (playerId == id) {
-                    ref.option = getResponse(socket, update.getActionLimit(), options);
+        var actor = players.get(playerId);
+        var actionLimit = actor == null ? -1 : updates.get(playerId).getActionLimit();
+        long start = System.nanoTime();
+        var response = actor == null ? null : expectResponse(playerId, actor, actionLimit);
+        for (var entry : updates.entrySet()) {
+            var client = players.get(entry.getKey());
+            if (client != null) {
+                client.connection.send(entry.getValue().toJson());
+            }
+        }
+        if (actor == null) {
+            return checkOrFold(options);
+        }
+        return awaitResponse(actor, response, start, actionLimit, options);
+    }
+
+    /**
+     * Registers the future the player's next action completes. Once {@code actionLimit} seconds pass the deadline
+     * carries on into their time bank, and once that runs out too the future completes as timed out.
+     */
+    private CompletableFuture<ClientMessage.Action> expectResponse(UUID id, Client client, int actionLimit) {
+        var response = new CompletableFuture<ClientMessage.Action>();
+        client.response.set(response);
+        long limitNanos = TimeUnit.SECONDS.toNanos(actionLimit);
+        long bankNanos = client.timeBankNanos;
+        if (actionLimit != -1) {
+            var deadline = new AtomicReference<TimerWheel.Timeout>();
+            deadline.set(timer.schedule(limitNanos, TimeUnit.NANOSECONDS, () -> {
+                if (bankNanos > 0 && !response.isDone()) {
+                    deadline.set(timer.schedule(bankNanos, TimeUnit.NANOSECONDS, () -> response.complete(TIMED_OUT)));
+                } else {
+                    response.complete(TIMED_OUT);
                 }
-            });
-            threads.add(thread);
-            thread.start();
+            }));
+            response.whenComplete((action, e) -> deadline.get().cancel());
         }
+        if (players.get(id) != client) {
+            response.complete(DISCONNECTED);
+        }
+        return response;
+    }
 
-        for (var thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+    /**
+     * Waits for the player's action and charges their time bank for however much of it they used.
+     */
+    private Option awaitResponse(
+        Client client, CompletableFuture<ClientMessage.Action> response, long start, int actionLimit,
+        List<Option> options
+    ) {
+        var action = response.join();
+        client.response.compareAndSet(response, null);
+        if (actionLimit != -1) {
+            long overtime = System.nanoTime() - start - TimeUnit.SECONDS.toNanos(actionLimit);
+            client.timeBankNanos = Math.max(0, client.timeBankNanos - Math.max(0, overtime));
         }
-        return ref.option;
+        if (action == TIMED_OUT || action == DISCONNECTED) {
+            return checkOrFold(options);
+        }
+        return toOption(action, options);
     }
 
-    private void sendMessage(Socket socket, RegularUpdate update) {
-        try {
-            var outputStream = socket.getOutputStream();
-            var printWriter =
-                new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), true);
-            printWriter.println(update.toJson());
-        } catch (IOException e) {
-            e.printStackTrace();
+    private static void complete(Client client, ClientMessage.Action action) {
+        var response = client.response.getAndSet(null);
+        if (response != null) {
+            response.complete(action);
         }
     }
 
-    private Option getResponse(Socket socket, int actionLimit, List<Option> options) {
-        var executor = Executors.newSingleThreadExecutor();
-        var future = executor.submit(new ReceiveOptionResponse(socket, options));
-        if (actionLimit != -1) {
-            try {
-                return future.get(actionLimit, TimeUnit.SECONDS);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                future.cancel(true);
+    /**
+     * Returns the option a player who does not act takes: check if they can, fold otherwise.
+     */
+    private static Option checkOrFold(List<Option> options) {
+        for (var option : options) {
+            if (option.getType() == Option.OptionType.CHECK) {
+                return option;
             }
-            executor.shutdownNow();
-        } else {
-            try {
-                return future.get();
-            } catch (InterruptedException | ExecutionException e) {
-                future.cancel(true);
+        }
+        for (var option : options) {
+            if (option.getType() == Option.OptionType.FOLD) {
+                return option;
             }
         }
         return options.get(0);
     }
 
-    class ReceiveOptionResponse implements Callable<Option> {
-
-        private Socket socket;
-        private List<Option> options;
-
-        ReceiveOptionResponse(Socket socket, List<Option> options) {
-            this.socket = socket;
-            this.options = options;
-        }
-
-        @Override
-        public Option call() {
-            try {
-                var inputStream = socket.getInputStream();
-                var scanner = new Scanner(inputStream, StandardCharsets.UTF_8);
-                if (scanner.hasNextLine()) {
-                    var line = scanner.nextLine();
-                    var parts = line.split(":");
-                    var index = Integer.parseInt(parts[0]);
-                    var amount = Double.parseDouble(parts[1]);
-                    return new Option(options.get(index).getType(), amount);
-                }
-            } catch (IOException | IndexOutOfBoundsException | NumberFormatException e) {
-                e.printStackTrace();
-            }
+    private Option toOption(ClientMessage.Action action, List<Option> options) {
+        if (action.index() >= options.size()) {
             return options.get(0);
         }
+        return new Option(options.get(action.index()).getType(), action.amount());
     }
 }
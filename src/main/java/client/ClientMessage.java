@@ -0,0 +1,25 @@
+package client;
+
+/**
+ * A message a client sends to its table, parsed from one line by {@link MessageParser}.
+ */
+public sealed interface ClientMessage {
+
+    /**
+     * Sent once, as the first line on a connection, to take a seat.
+     *
+     * @param name   the player's name
+     * @param amount the chips the player sits down with
+     */
+    record Join(String name, double amount) implements ClientMessage {
+    }
+
+    /**
+     * Sent in response to an update, choosing one of the options it offered.
+     *
+     * @param index  position of the chosen option in the update's options
+     * @param amount the amount to bet, raise or call
+     */
+    record Action(int index, double amount) implements ClientMessage {
+    }
+}
@@ -0,0 +1,104 @@
+package client;
+
+/**
+ * Parses the lines clients send, {@code name:amount} to join and {@code index:amount} to act, by scanning their
+ * characters once, without splitting them into parts or going through {@link Double#parseDouble(String)}.
+ *
+ * <p>
+ * Amounts are plain decimals, digits with an optional fraction after a point, of at most {@value #MAX_AMOUNT_DIGITS}
+ * digits in all. The digits are read into a long and divided by a power of ten, both of which are exact as doubles,
+ * so the result is the double nearest the decimal, the same as {@link Double#parseDouble(String)} gives.
+ * </p>
+ */
+public final class MessageParser {
+
+    static final int MAX_AMOUNT_DIGITS = 15;
+    private static final int MAX_INDEX_DIGITS = 9;
+    private static final char SEPARATOR = ':';
+    private static final char POINT = '.';
+    private static final double[] POWERS_OF_TEN = new double[MAX_AMOUNT_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private MessageParser() {
+    }
+
+    /**
+     * Parses a {@code name:amount} join request. The name is everything before the first separator.
+     *
+     * @throws IllegalArgumentException if the line is not a join request
+     */
+    public static ClientMessage.Join parseJoin(CharSequence line) {
+        int separator = separator(line);
+        return new ClientMessage.Join(line.subSequence(0, separator).toString(), parseAmount(line, separator + 1));
+    }
+
+    /**
+     * Parses an {@code index:amount} action.
+     *
+     * @throws IllegalArgumentException if the line is not an action
+     */
+    public static ClientMessage.Action parseAction(CharSequence line) {
+        int separator = separator(line);
+        if (separator > MAX_INDEX_DIGITS) {
+            throw malformed(line);
+        }
+        int index = 0;
+        for (int i = 0; i < separator; i++) {
+            index = index * 10 + digit(line, i);
+        }
+        return new ClientMessage.Action(index, parseAmount(line, separator + 1));
+    }
+
+    private static int separator(CharSequence line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == SEPARATOR) {
+                if (i == 0) {
+                    break;
+                }
+                return i;
+            }
+        }
+        throw malformed(line);
+    }
+
+    private static double parseAmount(CharSequence line, int start) {
+        long digits = 0;
+        int digitCount = 0;
+        int fractionDigits = -1;
+        for (int i = start; i < line.length(); i++) {
+            if (line.charAt(i) == POINT && fractionDigits == -1) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (++digitCount > MAX_AMOUNT_DIGITS) {
+                throw malformed(line);
+            }
+            digits = digits * 10 + digit(line, i);
+            if (fractionDigits != -1) {
+                fractionDigits++;
+            }
+        }
+        if (digitCount == 0) {
+            throw malformed(line);
+        }
+        return fractionDigits > 0 ? digits / POWERS_OF_TEN[fractionDigits] : digits;
+    }
+
+    private static int digit(CharSequence line, int position) {
+        int digit = line.charAt(position) - '0';
+        if (digit < 0 || digit > 9) {
+            throw malformed(line);
+        }
+        return digit;
+    }
+
+    private static IllegalArgumentException malformed(CharSequence line) {
+        return new IllegalArgumentException("Malformed message: " + line);
+    }
+}
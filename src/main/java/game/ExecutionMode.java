@@ -0,0 +1,42 @@
+package game;
+
+import java.util.Locale;
+
+/**
+ * Which kind of thread runs each table's game loop, which sends players their updates and blocks waiting for their
+ * responses. Picked at startup with the {@value #PROPERTY} system property so the two can be compared under load.
+ *
+ * <p>
+ * Virtual threads unmount from their carrier while they wait, except inside a {@code synchronized} block, so code run
+ * in either mode blocks only while holding {@link java.util.concurrent.locks.Lock}s, never monitors.
+ * </p>
+ */
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL;
+
+    /**
+     * System property naming the mode, {@code platform} or {@code virtual}, platform threads are used when it is unset.
+     */
+    public static final String PROPERTY = "poker.threads";
+
+    /**
+     * Returns the mode named by {@value #PROPERTY}.
+     *
+     * @throws IllegalArgumentException if the property names no mode
+     */
+    public static ExecutionMode fromProperty() {
+        return valueOf(System.getProperty(PROPERTY, PLATFORM.name()).toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Starts {@code task} on a new thread of this mode.
+     */
+    public Thread start(String name, Runnable task) {
+        return builder().name(name).start(task);
+    }
+
+    private Thread.Builder builder() {
+        return this == VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform();
+    }
+}
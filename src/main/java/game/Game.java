@@ -10,7 +10,9 @@ import java.util.Objects;
 import java.util.UUID;
 import model.hand.representation.Hand;
 import model.hand.representation.OmahaHand;
+import model.hand.representation.OmahaHiLoHand;
 import model.hand.representation.PineappleHand;
+import model.hand.representation.ShortDeckHand;
 import model.hand.representation.TestHand;
 import model.hand.representation.TexasHoldEmHand;
 import model.option.Option;
@@ -22,6 +24,8 @@ public class Game {
     }
 
     private static final int GAME_ENDED = -1;
+    private static final int PLO5_HAND_LENGTH = 5;
+    private static final int PLO6_HAND_LENGTH = 6;
 
     private final Player[] players;
     private final Rules rules;
@@ -208,6 +212,26 @@ public class Game {
                     new PineappleHand(rules.getSmallBlind(), rules.getBigBlind(), rules.getAnte(),
                         playersInHand);
                 break;
+            case PLO5:
+                currentHand =
+                    new OmahaHand(rules.getSmallBlind(), rules.getBigBlind(), rules.getAnte(),
+                        playersInHand, PLO5_HAND_LENGTH);
+                break;
+            case PLO6:
+                currentHand =
+                    new OmahaHand(rules.getSmallBlind(), rules.getBigBlind(), rules.getAnte(),
+                        playersInHand, PLO6_HAND_LENGTH);
+                break;
+            case OMAHA_HI_LO:
+                currentHand =
+                    new OmahaHiLoHand(rules.getSmallBlind(), rules.getBigBlind(), rules.getAnte(),
+                        playersInHand);
+                break;
+            case SHORT_DECK:
+                currentHand =
+                    new ShortDeckHand(rules.getSmallBlind(), rules.getBigBlind(), rules.getAnte(),
+                        playersInHand);
+                break;
             case OMAHA:
                 currentHand =
                     new OmahaHand(rules.getSmallBlind(), rules.getBigBlind(), rules.getAnte(),
@@ -296,6 +320,8 @@ public class Game {
             if (player != null) {
                 var update = new RegularUpdate(
                     currentGameType, player,
+                    currentHand.getCurrentHandRank(player),
+                    currentHand.getDraws(player),
                     Arrays.asList(players).indexOf(player),
                     players,
                     playersInHand,
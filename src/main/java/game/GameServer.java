@@ -1,97 +1,176 @@
 package game;
 
 import client.ClientHandler;
+import client.ClientMessage;
+import client.MessageParser;
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicBoolean;
+import model.hand.analyzer.EvaluationTables;
 import model.player.Player;
+import network.Connection;
+import network.ConnectionListener;
+import network.ConnectionServer;
+import network.LineFrameCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class GameServer implements Runnable {
 
+    /**
+     * System property naming the file written by {@link EvaluationTables#main(String[])}.
+     */
+    static final String TABLES_PROPERTY = "poker.tables";
+    private static final int MAX_EVENT_LOOPS = 4;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private final int serverPort;
-    private ServerSocket serverSocket = null;
-    private boolean isStopped = false;
+    private ConnectionServer connectionServer = null;
+    private volatile boolean isStopped = false;
     private final int tableMax;
+    private final ExecutionMode executionMode;
 
-    GameServer(int port, int tableMax) {
+    GameServer(int port, int tableMax, ExecutionMode executionMode) {
         serverPort = port;
         this.tableMax = tableMax;
+        this.executionMode = executionMode;
     }
 
     public void run() {
-        openServerSocket();
         var rules = new Rules(1.0, 2.0, 0.0, -1, tableMax, Rules.GameType.HOLDEM);
         var clientHandler = new ClientHandler();
         var game = new Game(new ArrayList<>(), rules, clientHandler);
-        while (!isStopped()) {
-            Socket clientSocket;
-            try {
-                clientSocket = serverSocket.accept();
-            } catch (IOException e) {
-                if (isStopped()) {
-                    System.out.println("Server stopped.");
-                    return;
-                }
+        openServer(new TableListener(game, clientHandler));
+        try {
+            connectionServer.serve();
+        } catch (IOException e) {
+            if (!isStopped()) {
                 throw new RuntimeException("Error accepting client connection", e);
             }
-            new Thread(() -> {
-                try {
-                    var inputStream = clientSocket.getInputStream();
-                    var scanner = new Scanner(inputStream);
-                    if (scanner.hasNextLine()) {
-                        var line = scanner.nextLine();
-                        var parts = line.split(":");
-                        var name = parts[0];
-                        var amount = Double.parseDouble(parts[1]);
-                        var player = new Player(amount, name);
-                        clientHandler.addClient(player.getPlayerId(), clientSocket);
-                        game.addPlayer(player);
-                        if (game.getNumPlayers() >= 2) {
-                            game.runGame();
-                        }
-                    }
-                } catch (Game.TableFullException e) {
-                    log.warn("Table is full.", e);
-                } catch (Exception e) {
-                    log.error("Failed to handle client.", e);
-                }
-            }).start();
         }
         System.out.println("Server stopped.");
     }
 
-    private synchronized boolean isStopped() {
+    private boolean isStopped() {
         return isStopped;
     }
 
-    public synchronized void stop() {
+    public void stop() {
         isStopped = true;
         try {
-            serverSocket.close();
+            connectionServer.close();
         } catch (IOException e) {
             throw new RuntimeException("Error closing server", e);
         }
     }
 
-    private void openServerSocket() {
+    private void openServer(ConnectionListener listener) {
+        var eventLoops = Math.min(MAX_EVENT_LOOPS, Runtime.getRuntime().availableProcessors());
+        connectionServer = new ConnectionServer(eventLoops, LineFrameCodec::new, listener);
         try {
-            serverSocket = new ServerSocket(serverPort);
+            connectionServer.bind(serverPort);
         } catch (IOException e) {
             throw new RuntimeException("Cannot open port " + serverPort, e);
         }
     }
 
+    /**
+     * Parses every line a connection sends into a {@link ClientMessage} for the table. The first must be a join
+     * request, which seats the connection's player, and every later one an action, passed to the
+     * {@link ClientHandler} as that player's response. Runs on the event loops, so the game itself is run on its own
+     * thread once two players are seated.
+     */
+    private final class TableListener implements ConnectionListener {
+
+        private final Game game;
+        private final ClientHandler clientHandler;
+        private final AtomicBoolean gameRunning = new AtomicBoolean();
+
+        TableListener(Game game, ClientHandler clientHandler) {
+            this.game = game;
+            this.clientHandler = clientHandler;
+        }
+
+        @Override
+        public void onFrame(Connection connection, String frame) {
+            if (connection.getAttachment() instanceof Player player) {
+                try {
+                    clientHandler.receive(player.getPlayerId(), MessageParser.parseAction(frame));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring action from {}: {}", player.getName(), e.getMessage());
+                }
+                return;
+            }
+            try {
+                join(connection, MessageParser.parseJoin(frame));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid join request from " + connection.getRemoteAddress(), e);
+                connection.close();
+            }
+        }
+
+        @Override
+        public void onClose(Connection connection) {
+            if (connection.getAttachment() instanceof Player player) {
+                clientHandler.removeClient(player.getPlayerId());
+            }
+        }
+
+        private void join(Connection connection, ClientMessage.Join request) {
+            var player = new Player(request.amount(), request.name());
+            try {
+                clientHandler.addClient(player.getPlayerId(), connection);
+                game.addPlayer(player);
+                connection.setAttachment(player);
+                if (game.getNumPlayers() >= 2 && gameRunning.compareAndSet(false, true)) {
+                    executionMode.start("table", this::runGame);
+                }
+            } catch (Game.TableFullException e) {
+                log.warn("Table is full.", e);
+                clientHandler.removeClient(player.getPlayerId());
+                connection.close();
+            }
+        }
+
+        private void runGame() {
+            try {
+                game.runGame();
+            } catch (RuntimeException e) {
+                log.error("Game failed.", e);
+            } finally {
+                gameRunning.set(false);
+            }
+        }
+    }
+
+    /**
+     * Maps the precomputed evaluation tables if they have been generated, otherwise they are built on first use.
+     */
+    private static void loadEvaluationTables() {
+        var log = LoggerFactory.getLogger(GameServer.class);
+        var path = Path.of(System.getProperty(TABLES_PROPERTY, EvaluationTables.DEFAULT_FILE));
+        if (!Files.exists(path)) {
+            log.info("No evaluation tables at {}, building them on first use.", path);
+            return;
+        }
+        try {
+            EvaluationTables.load(path);
+        } catch (IOException e) {
+            log.warn("Ignoring evaluation tables at " + path, e);
+        }
+    }
+
     public static void main(String[] args) {
+        loadEvaluationTables();
         // TODO: Un-hardcode these
         var port = 8080;
         var tableMax = 6;
-        var gameServer = new GameServer(8080, tableMax);
+        var executionMode = ExecutionMode.fromProperty();
+        LoggerFactory.getLogger(GameServer.class).info("Running tables on {} threads.", executionMode);
+        var gameServer = new GameServer(8080, tableMax, executionMode);
         gameServer.run();
     }
 }
@@ -1,5 +1,6 @@
 package game;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
@@ -7,13 +8,17 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import model.card.Card;
+import model.hand.representation.HandRank;
 import model.option.Option;
 import model.player.Player;
 
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class RegularUpdate {
     final String gameType;
     final List<String> mainPlayerHand = new ArrayList<>();
     final String mainPlayerUsername;
+    final String mainPlayerHandRank;
+    final List<String> mainPlayerDraws = new ArrayList<>();
     final int mainPosition;
     final List<String> players = new ArrayList<>();
     final List<String> playersInHand = new ArrayList<>();
@@ -26,6 +31,8 @@ public class RegularUpdate {
     RegularUpdate(
         Rules.GameType gameType,
         Player mainPlayer,
+        HandRank mainPlayerHandRank,
+        List<String> mainPlayerDraws,
         int mainPosition,
         Player[] players,
         List<Player> playersInHand,
@@ -36,6 +43,8 @@ public class RegularUpdate {
         this.gameType = gameType.name();
         this.mainPlayerHand.addAll(mainPlayer.getHand().stream().map(Card::toClientString).toList());
         mainPlayerUsername = mainPlayer.getName();
+        this.mainPlayerHandRank = mainPlayerHandRank == null ? null : mainPlayerHandRank.toString();
+        this.mainPlayerDraws.addAll(mainPlayerDraws);
         this.mainPosition = mainPosition;
 
         var nonNullPlayers = Arrays.stream(players)
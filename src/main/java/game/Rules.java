@@ -3,7 +3,7 @@ package game;
 public class Rules {
 
     public enum GameType {
-        HOLDEM, PINEAPPLE, OMAHA, MIXED, TEST
+        HOLDEM, PINEAPPLE, OMAHA, PLO5, PLO6, OMAHA_HI_LO, SHORT_DECK, MIXED, TEST
     }
 
     /**
@@ -0,0 +1,223 @@
+package game;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel running the action deadlines of every table in the process on a single thread.
+ *
+ * <p>
+ * Time is cut into ticks and the wheel is a ring of buckets, one per tick. A timeout goes into the bucket its deadline
+ * falls in, counting how many full turns of the wheel it has to wait first, so scheduling and cancelling cost the same
+ * however many timeouts are pending. Each tick the wheel thread expires the timeouts of one bucket, running their tasks
+ * on the wheel thread, so tasks must be short and never block.
+ * </p>
+ *
+ * <p>
+ * Timeouts may be scheduled and cancelled from any thread. Both are handed to the wheel thread through lock free
+ * queues, which is the only thread that touches the buckets. Deadlines are never early and at most one tick late.
+ * </p>
+ */
+public final class TimerWheel implements AutoCloseable {
+
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Wheel shared by every table in the process.
+     */
+    public static final TimerWheel SHARED = new TimerWheel(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS,
+        DEFAULT_WHEEL_SIZE);
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final long tickNanos;
+    private final Timeout[] buckets;
+    private final int bucketMask;
+    private final long startNanos = System.nanoTime();
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * A task waiting in the wheel, which runs it once its deadline passes unless it is cancelled first.
+     */
+    public final class Timeout {
+
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final long deadline;
+        private final Runnable task;
+        private long remainingRounds;
+        private int bucket = -1;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Stops the task from running.
+         *
+         * @return whether the task was stopped, false if it has already run or been cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            cancelled.add(this);
+            return true;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * Creates a wheel and starts its thread.
+     *
+     * @param tick      length of one tick, the resolution of every deadline
+     * @param unit      unit of {@code tick}
+     * @param wheelSize number of buckets, rounded up to a power of two, deadlines further away than a full turn of the
+     *                  wheel wait out the extra turns in their bucket
+     */
+    public TimerWheel(long tick, TimeUnit unit, int wheelSize) {
+        tickNanos = unit.toNanos(tick);
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1) << 1);
+        buckets = new Timeout[size];
+        bucketMask = size - 1;
+        thread = new Thread(this::run, "timer-wheel");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Runs {@code task} on the wheel thread once {@code delay} has passed.
+     *
+     * @return the timeout, which can be cancelled until the task runs
+     */
+    public Timeout schedule(long delay, TimeUnit unit, Runnable task) {
+        var timeout = new Timeout(System.nanoTime() - startNanos + unit.toNanos(delay), task);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts that have been scheduled and have neither run nor been cancelled.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the wheel thread, tasks still waiting never run.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    private void run() {
+        while (running) {
+            long tickEnd = (tick + 1) * tickNanos;
+            for (long wait = tickEnd - (System.nanoTime() - startNanos); wait > 0 && running;
+                 wait = tickEnd - (System.nanoTime() - startNanos)) {
+                LockSupport.parkNanos(this, wait);
+            }
+            removeCancelled();
+            addScheduled();
+            expire((int) (tick & bucketMask));
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != -1) {
+                remove(timeout);
+            }
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Moves newly scheduled timeouts into their buckets. Ones whose deadline has already passed go into the current
+     * bucket and expire this tick.
+     */
+    private void addScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            timeout.bucket = (int) (deadlineTick & bucketMask);
+            timeout.next = buckets[timeout.bucket];
+            if (timeout.next != null) {
+                timeout.next.previous = timeout;
+            }
+            buckets[timeout.bucket] = timeout;
+        }
+    }
+
+    private void expire(int bucket) {
+        var timeout = buckets[bucket];
+        while (timeout != null) {
+            var next = timeout.next;
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                remove(timeout);
+                if (timeout.state.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                    pending.decrementAndGet();
+                    runTask(timeout);
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    private void runTask(Timeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (RuntimeException e) {
+            log.error("Timeout task failed.", e);
+        }
+    }
+
+    private void remove(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+}
@@ -1,13 +1,27 @@
 package model.card;
 
+import java.util.Collection;
 import java.util.Comparator;
 
-public class Card {
-
-    private static final int HASHCODE_OFFSET = 100;
+/**
+ * A playing card. There is exactly one instance of each of the 52 cards, so cards compare by identity.
+ *
+ * <p>
+ * Every card also has an {@code int} id from 0 to 51, {@code rankIndex * 4 + suit}, where the rank index runs from 0
+ * for a two up to 12 for an ace and the suit is the {@link Suit} ordinal. Sets of cards can be held as {@code long}
+ * masks with bit {@code id} set for each card, see {@link #mask(Collection)}.
+ * </p>
+ */
+public final class Card {
+
+    public static final int CARD_COUNT = 52;
+    public static final int SUIT_COUNT = 4;
+    private static final int LOWEST_STRENGTH = Rank.TWO.getStrength();
+    private static final Card[] CARDS = new Card[CARD_COUNT];
 
     private final Rank rank;
     private final Suit suit;
+    private final int id;
 
     public enum Rank {
 
@@ -29,9 +43,65 @@ public class Card {
         HEARTS, DIAMONDS, CLUBS, SPADES
     }
 
-    public Card(Rank rank, Suit suit) {
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                if (rank != Rank.ONE) {
+                    Card card = new Card(rank, suit);
+                    CARDS[card.id] = card;
+                }
+            }
+        }
+    }
+
+    private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.id = (rank.getStrength() - LOWEST_STRENGTH) * SUIT_COUNT + suit.ordinal();
+    }
+
+    /**
+     * Returns the card of the given rank and suit.
+     *
+     * @throws IllegalArgumentException for {@link Rank#ONE}, which only describes a low ace in a hand's strength
+     */
+    public static Card of(Rank rank, Suit suit) {
+        if (rank == Rank.ONE) {
+            throw new IllegalArgumentException("There is no card of rank " + rank + ".");
+        }
+        return CARDS[(rank.getStrength() - LOWEST_STRENGTH) * SUIT_COUNT + suit.ordinal()];
+    }
+
+    /**
+     * Returns the card with the given id, from 0 to {@link #CARD_COUNT} - 1.
+     */
+    public static Card of(int id) {
+        return CARDS[id];
+    }
+
+    /**
+     * Returns the mask with the bit of every card in {@code cards} set.
+     */
+    public static long mask(Collection<Card> cards) {
+        long mask = 0;
+        for (Card card : cards) {
+            mask |= card.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the rank index, 0 for a two up to 12 for an ace, of the card with the given id.
+     */
+    public static int rankIndex(int id) {
+        return id / SUIT_COUNT;
+    }
+
+    /**
+     * Returns the {@link Suit} ordinal of the card with the given id.
+     */
+    public static int suitIndex(int id) {
+        return id % SUIT_COUNT;
     }
 
     public Rank getRank() {
@@ -42,24 +112,25 @@ public class Card {
         return suit;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public long getMask() {
+        return 1L << id;
+    }
+
+    /**
+     * Cards are interned, so two cards are equal only if they are the same instance.
+     */
     @Override
-    public final boolean equals(Object obj) {
-        try {
-            if (obj.getClass().isAssignableFrom(this.getClass())) {
-                final Card otherCard = (Card) obj;
-                return this.getRank().equals(otherCard.getRank()) && this.getSuit()
-                    .equals(otherCard.getSuit());
-            }
-        } catch (NullPointerException e) {
-            // TODO: Fix me
-            e.printStackTrace();
-        }
-        return false;
+    public boolean equals(Object obj) {
+        return this == obj;
     }
 
     @Override
-    public final int hashCode() {
-        return this.rank.getStrength() + (this.suit.ordinal() * HASHCODE_OFFSET);
+    public int hashCode() {
+        return id;
     }
 
     @Override
@@ -1,27 +1,121 @@
 package model.card;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Stack;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 import model.card.Card.Rank;
 import model.card.Card.Suit;
 
-public class Deck extends Stack<Card> {
+/**
+ * A deck of card ids that is shuffled lazily, one position at a time as cards are dealt.
+ *
+ * <p>
+ * Each {@link #pop()} swaps a uniformly chosen card from the undealt part of the deck into the next position and deals
+ * it, which is one step of a Fisher-Yates shuffle, so a hand only pays for the cards it deals. The order cards are
+ * dealt in only depends on the random source, so a seeded source deals the same cards every time. A deck is meant to
+ * be used by one thread and does no locking.
+ * </p>
+ */
+public class Deck {
+
+    private final int[] cards;
+    private final RandomGenerator random;
+    private int dealt;
+    private boolean nextChosen;
 
     public Deck() {
-        super();
-        addAllCards();
-        Collections.shuffle(this);
+        this(Rank.TWO);
+    }
+
+    /**
+     * Creates a deck holding every card from {@code lowestRank} up to the aces, {@link Rank#SIX} gives the 36 card
+     * short deck. The deck is shuffled by {@link SecureShuffleService#SHARED}.
+     *
+     * @param lowestRank lowest rank in the deck
+     */
+    public Deck(Rank lowestRank) {
+        this(lowestRank, SecureShuffleService.SHARED);
+    }
+
+    /**
+     * Creates a deck that shuffles with the given source, such as a {@link java.util.SplittableRandom} created with a
+     * seed to deal a repeatable hand.
+     *
+     * @param lowestRank lowest rank in the deck
+     * @param random     source of the shuffle
+     */
+    public Deck(Rank lowestRank, RandomGenerator random) {
+        this.random = random;
+        int lowestId = Card.of(lowestRank, Suit.HEARTS).getId();
+        cards = new int[Card.CARD_COUNT - lowestId];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = lowestId + i;
+        }
+    }
+
+    /**
+     * Deals the next card.
+     *
+     * @throws IllegalStateException if every card has been dealt
+     */
+    public Card pop() {
+        return Card.of(popId());
+    }
+
+    /**
+     * Deals the next card and returns its {@link Card#getId()}.
+     *
+     * @throws IllegalStateException if every card has been dealt
+     */
+    public int popId() {
+        int id = cards[chooseNext()];
+        dealt++;
+        nextChosen = false;
+        return id;
+    }
+
+    /**
+     * Returns the card the next {@link #pop()} will deal, without dealing it.
+     *
+     * @throws IllegalStateException if every card has been dealt
+     */
+    public Card peek() {
+        return Card.of(cards[chooseNext()]);
+    }
+
+    /**
+     * Returns the number of cards left to deal.
+     */
+    public int size() {
+        return cards.length - dealt;
     }
 
-    private void addAllCards() {
-        for (Suit suit : Suit.values()) {
-            for (Rank rank :
-                Arrays.stream(Rank.values()).filter(rank -> rank != Rank.ONE).toList()) {
-                Card card = new Card(rank, suit);
-                push(card);
+    /**
+     * Returns whether {@code card} has not been dealt yet.
+     */
+    public boolean contains(Card card) {
+        for (int i = dealt; i < cards.length; i++) {
+            if (cards[i] == card.getId()) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Swaps a random undealt card into the next position, once per card dealt.
+     *
+     * @return the position of the next card
+     */
+    private int chooseNext() {
+        if (dealt == cards.length) {
+            throw new IllegalStateException("Every card in the deck has been dealt.");
+        }
+        if (!nextChosen) {
+            int pick = dealt + random.nextInt(cards.length - dealt);
+            int card = cards[pick];
+            cards[pick] = cards[dealt];
+            cards[dealt] = card;
+            nextChosen = true;
+        }
+        return dealt;
     }
 }
@@ -0,0 +1,231 @@
+package model.card;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * Cryptographically secure random source for shuffling {@link Deck}s, drawing from random ints that a background thread
+ * generates ahead of time so dealing never waits on {@link SecureRandom}.
+ *
+ * <p>
+ * The pool is split into one shard per core and each thread draws from the shard its identity hashes to, so tables
+ * running on different threads rarely contend. A shard holds two buffers: the one being drawn from and a spare that the
+ * refill thread fills. When the active buffer runs out the two are swapped and the empty one is queued for refilling.
+ * If the spare is not ready yet the drawing thread fills its buffer itself, which is counted as a stall.
+ * </p>
+ *
+ * <p>
+ * Bounded ints are drawn by rejection sampling, so every value below the bound is exactly as likely.
+ * </p>
+ */
+public final class SecureShuffleService implements RandomGenerator, AutoCloseable {
+
+    private static final int DEFAULT_BUFFER_INTS = 4096;
+
+    /**
+     * Service shared by every deck in the process that is not given its own random source.
+     */
+    public static final SecureShuffleService SHARED =
+        new SecureShuffleService(Runtime.getRuntime().availableProcessors(), DEFAULT_BUFFER_INTS);
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Shard[] shards;
+    private final BlockingQueue<Shard> refillQueue = new LinkedBlockingQueue<>();
+    private final Thread refillThread;
+
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+    private final LongAccumulator maxRefillNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    private final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int[] active;
+        private int[] spare;
+        private int position;
+        private boolean spareReady;
+        private long refillRequested;
+
+        private Shard(int bufferInts) {
+            active = new int[bufferInts];
+            spare = new int[bufferInts];
+            fill(active);
+            requestRefill(this);
+        }
+
+        private int next() {
+            lock.lock();
+            try {
+                if (position == active.length) {
+                    if (spareReady) {
+                        int[] empty = active;
+                        active = spare;
+                        spare = empty;
+                        spareReady = false;
+                        requestRefill(this);
+                    } else {
+                        stalls.increment();
+                        fill(active);
+                    }
+                    position = 0;
+                }
+                return active[position++];
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int available() {
+            lock.lock();
+            try {
+                return active.length - position + (spareReady ? spare.length : 0);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Creates a service and starts its refill thread.
+     *
+     * @param shardCount number of independently locked shards, usually the number of cores
+     * @param bufferInts number of random ints in each of a shard's two buffers
+     */
+    SecureShuffleService(int shardCount, int bufferInts) {
+        refillThread = new Thread(this::refillLoop, "secure-shuffle-refill");
+        refillThread.setDaemon(true);
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(bufferInts);
+        }
+        refillThread.start();
+    }
+
+    @Override
+    public int nextInt() {
+        return shards[(Thread.currentThread().hashCode() & Integer.MAX_VALUE) % shards.length].next();
+    }
+
+    /**
+     * Returns a uniformly distributed int from 0 up to, but not including, {@code bound}. Raw values from the top of
+     * the int range that would make lower results more likely are rejected and drawn again.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int value = nextInt() >>> 1;
+        for (int raw = value; raw - (value = raw % bound) + (bound - 1) < 0; raw = nextInt() >>> 1) {
+            rejections.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public long nextLong() {
+        return (long) nextInt() << Integer.SIZE | nextInt() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the number of random ints generated and not yet drawn, across every shard.
+     */
+    public long getPoolDepth() {
+        long depth = 0;
+        for (Shard shard : shards) {
+            depth += shard.available();
+        }
+        return depth;
+    }
+
+    public long getRefills() {
+        return refills.sum();
+    }
+
+    /**
+     * Returns the mean time from a buffer running out to its replacement being ready, in nanoseconds.
+     */
+    public long getAverageRefillNanos() {
+        long count = refills.sum();
+        return count == 0 ? 0 : refillNanos.sum() / count;
+    }
+
+    public long getMaxRefillNanos() {
+        return maxRefillNanos.get();
+    }
+
+    /**
+     * Returns the number of times a drawing thread found both of its shard's buffers empty and refilled one itself.
+     */
+    public long getStalls() {
+        return stalls.sum();
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Pool depth: %d, Refills: %d, Average refill: %dns, Max refill: %dns, Stalls: %d, "
+            + "Rejections: %d", getPoolDepth(), getRefills(), getAverageRefillNanos(), getMaxRefillNanos(),
+            getStalls(), getRejections());
+    }
+
+    /**
+     * Stops the refill thread, later draws fill their buffers on the drawing thread.
+     */
+    @Override
+    public void close() {
+        refillThread.interrupt();
+    }
+
+    private void requestRefill(Shard shard) {
+        shard.refillRequested = System.nanoTime();
+        refillQueue.add(shard);
+    }
+
+    private void refillLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Shard shard = refillQueue.take();
+                int[] spare;
+                long requested;
+                shard.lock.lock();
+                try {
+                    spare = shard.spare;
+                    requested = shard.refillRequested;
+                } finally {
+                    shard.lock.unlock();
+                }
+                fill(spare);
+                shard.lock.lock();
+                try {
+                    shard.spareReady = true;
+                } finally {
+                    shard.lock.unlock();
+                }
+                long nanos = System.nanoTime() - requested;
+                refills.increment();
+                refillNanos.add(nanos);
+                maxRefillNanos.accumulate(nanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fill(int[] buffer) {
+        byte[] bytes = new byte[buffer.length * Integer.BYTES];
+        secureRandom.nextBytes(bytes);
+        ByteBuffer.wrap(bytes).asIntBuffer().get(buffer);
+    }
+}
@@ -0,0 +1,58 @@
+package model.hand.analyzer;
+
+/**
+ * Scores many Hold'em hands at once, for bulk work such as equity simulation or re-evaluating hand histories.
+ *
+ * <p>
+ * Hands are passed as one flat array of {@link CardCodes}, hand after hand, all of the same length. When the
+ * {@code jdk.incubator.vector} module is present, the rank histograms, suit counts and per suit rank masks of several
+ * hands are built together in vector lanes and only the final table lookups run lane by lane; otherwise every hand is
+ * scored on its own exactly like {@link HoldEmAnalyzer#evaluate(int[], int)}.
+ * </p>
+ */
+public final class BatchEvaluator {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+    private BatchEvaluator() {
+    }
+
+    /**
+     * Scores every hand in {@code cards}.
+     *
+     * @param cards        card codes of the hands, hand {@code i} starting at {@code i * cardsPerHand}
+     * @param cardsPerHand number of cards in every hand, at least five
+     * @return the packed {@link HandStrength} of each hand, in order
+     */
+    public static int[] evaluate(int[] cards, int cardsPerHand) {
+        int[] scores = new int[cards.length / cardsPerHand];
+        evaluate(cards, cardsPerHand, scores);
+        return scores;
+    }
+
+    /**
+     * Scores every hand in {@code cards} into {@code scores}, so callers can reuse the score buffer between batches.
+     *
+     * @param cards        card codes of the hands, hand {@code i} starting at {@code i * cardsPerHand}
+     * @param cardsPerHand number of cards in every hand, at least five
+     * @param scores       receives the packed {@link HandStrength} of each hand, its length is the number of hands
+     */
+    public static void evaluate(int[] cards, int cardsPerHand, int[] scores) {
+        if ((long) scores.length * cardsPerHand > cards.length) {
+            throw new IllegalArgumentException("Expected " + scores.length + " hands of " + cardsPerHand + " cards.");
+        }
+        int scored = VECTOR_AVAILABLE ? VectorBatchEvaluator.evaluate(cards, cardsPerHand, scores) : 0;
+        evaluateScalar(cards, cardsPerHand, scores, scored);
+    }
+
+    static boolean isVectorized() {
+        return VECTOR_AVAILABLE;
+    }
+
+    static void evaluateScalar(int[] cards, int cardsPerHand, int[] scores, int fromHand) {
+        for (int hand = fromHand; hand < scores.length; hand++) {
+            scores[hand] = SevenCardEvaluator.evaluate(cards, hand * cardsPerHand, cardsPerHand);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package model.hand.analyzer;
+
+import java.util.List;
+import model.card.Card;
+
+/**
+ * The {@code int} encoding of cards used by the evaluators, the {@link Card#getId()} of each card.
+ */
+public final class CardCodes {
+
+    public static final int CARD_COUNT = Card.CARD_COUNT;
+    public static final int SUIT_COUNT = Card.SUIT_COUNT;
+
+    private CardCodes() {
+    }
+
+    public static int of(Card card) {
+        return card.getId();
+    }
+
+    public static int[] of(List<Card> cards) {
+        int[] codes = new int[cards.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = cards.get(i).getId();
+        }
+        return codes;
+    }
+
+    /**
+     * Returns the 52 bit mask with one bit set per card code in {@code cards}.
+     *
+     * @param cards cards to include in the mask
+     * @return the card mask
+     */
+    public static long mask(List<Card> cards) {
+        long mask = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            mask |= cards.get(i).getMask();
+        }
+        return mask;
+    }
+
+    public static Card toCard(int code) {
+        return Card.of(code);
+    }
+}
@@ -0,0 +1,68 @@
+package model.hand.analyzer;
+
+/**
+ * Precomputed index tables for every combination of k items out of n, for n up to {@link #MAX_ITEMS}.
+ *
+ * <p>
+ * The combinations of a table are stored back to back, k indexes each, in lexicographic order. Evaluators walk a table
+ * and read the cards at those indexes out of an {@code int[]} of card codes, so no combination is ever materialized.
+ * </p>
+ */
+final class Combinations {
+
+    static final int MAX_ITEMS = 9;
+
+    private static final int[][][] INDEXES = new int[MAX_ITEMS + 1][MAX_ITEMS + 1][];
+
+    static {
+        for (int n = 0; n <= MAX_ITEMS; n++) {
+            for (int k = 0; k <= n; k++) {
+                INDEXES[n][k] = createIndexes(n, k);
+            }
+        }
+    }
+
+    private Combinations() {
+    }
+
+    /**
+     * Returns the index table for choosing {@code k} of {@code n} items, the table must not be modified.
+     *
+     * @param n number of items to choose from
+     * @param k size of each combination
+     * @return {@code count(n, k) * k} indexes, k per combination
+     */
+    static int[] indexes(int n, int k) {
+        return INDEXES[n][k];
+    }
+
+    static int count(int n, int k) {
+        long count = 1;
+        for (int i = 0; i < k; i++) {
+            count = count * (n - i) / (i + 1);
+        }
+        return (int) count;
+    }
+
+    private static int[] createIndexes(int n, int k) {
+        int[] indexes = new int[count(n, k) * k];
+        int[] combination = new int[k];
+        for (int i = 0; i < k; i++) {
+            combination[i] = i;
+        }
+        for (int offset = 0; offset < indexes.length; offset += k) {
+            System.arraycopy(combination, 0, indexes, offset, k);
+            int i = k - 1;
+            while (i >= 0 && combination[i] == n - k + i) {
+                i--;
+            }
+            if (i >= 0) {
+                combination[i]++;
+                for (int j = i + 1; j < k; j++) {
+                    combination[j] = combination[j - 1] + 1;
+                }
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,105 @@
+package model.hand.analyzer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Fixed size, thread safe cache of hand scores keyed by the 52 bit mask of the cards that were evaluated.
+ *
+ * <p>
+ * The cache is direct mapped, each mask hashes to exactly one slot and a miss replaces whatever the slot held, so the
+ * memory used never grows past the capacity given at construction. Slots hold immutable entries and are read and
+ * written without locking; two threads missing on the same mask at once both evaluate it and store the same score.
+ * </p>
+ *
+ * <p>
+ * Scores never depend on which suit is which, so callers key the shared cache by
+ * {@link SuitCanonicalizer#canonicalMask(long)} and every suit relabeling of a hand shares one slot.
+ * </p>
+ */
+public final class EvaluationCache {
+
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Cache shared by every short deck table in the process. Hold'em scores need none, each player's {@link HandState}
+     * already keeps its score until the next card is dealt.
+     */
+    public static final EvaluationCache SHORT_DECK = new EvaluationCache(DEFAULT_CAPACITY);
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int slotMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private record Entry(long cardMask, int score) {
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity number of scores the cache can hold, rounded up to a power of two
+     */
+    public EvaluationCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        slots = new AtomicReferenceArray<>(size);
+        slotMask = size - 1;
+    }
+
+    /**
+     * Returns the cached score for {@code cardMask}, evaluating and storing it on a miss.
+     *
+     * @param cardMask  {@link CardCodes#mask(java.util.List)} of the evaluated cards
+     * @param evaluator computes the score when it is not cached
+     * @return the score of the cards
+     */
+    public int get(long cardMask, IntSupplier evaluator) {
+        int slot = slot(cardMask);
+        Entry entry = slots.get(slot);
+        if (entry != null && entry.cardMask() == cardMask) {
+            hits.increment();
+            return entry.score();
+        }
+        misses.increment();
+        int score = evaluator.getAsInt();
+        Entry previous = slots.getAndSet(slot, new Entry(cardMask, score));
+        if (previous != null && previous.cardMask() != cardMask) {
+            evictions.increment();
+        }
+        return score;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Capacity: %d, Hits: %d, Misses: %d, Evictions: %d", capacity(), getHits(),
+            getMisses(), getEvictions());
+    }
+
+    private int slot(long cardMask) {
+        long hash = cardMask;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & slotMask;
+    }
+}
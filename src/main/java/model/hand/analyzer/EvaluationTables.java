@@ -0,0 +1,193 @@
+package model.hand.analyzer;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Writes the precomputed evaluation tables to a binary file and maps them back read only, so a server starts without
+ * building them and every process on a host shares one copy through the page cache.
+ *
+ * <p>
+ * The file is little endian. It starts with a header of {@link #MAGIC}, {@link #VERSION}, the number of sections and
+ * the CRC32 of everything after the header, followed by each section as its {@link Section} ordinal, its length in
+ * bytes and its data. A file with another magic, version or checksum is rejected, so {@link #VERSION} must be raised
+ * whenever a table's layout or contents change.
+ * </p>
+ */
+public final class EvaluationTables {
+
+    public static final String DEFAULT_FILE = "evaluation-tables.bin";
+    static final int MAGIC = 0x504B5442;
+    static final int VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+    private static final int SECTION_HEADER_BYTES = Integer.BYTES * 2;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * A table stored in the file, with how to build it and how to hand a mapped copy to its evaluator.
+     */
+    public enum Section {
+        /**
+         * Takes hours of CPU time to generate, see {@link PreflopEquity#generateTables()}.
+         */
+        PREFLOP_EQUITY(() -> shorts(PreflopEquity.generateTables()),
+            data -> PreflopEquity.install(data.asShortBuffer()));
+
+        private final Supplier<ByteBuffer> generator;
+        private final Consumer<ByteBuffer> installer;
+
+        Section(Supplier<ByteBuffer> generator, Consumer<ByteBuffer> installer) {
+            this.generator = generator;
+            this.installer = installer;
+        }
+    }
+
+    private EvaluationTables() {
+    }
+
+    /**
+     * Builds every table and writes them to {@code path}.
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void generate(Path path) throws IOException {
+        generate(path, EnumSet.allOf(Section.class));
+    }
+
+    /**
+     * Builds the given tables and writes them to {@code path}, replacing any existing file atomically so running
+     * servers never map a partly written file. Tables left out are built by their evaluators on first use.
+     *
+     * @param path     file to write
+     * @param included tables to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void generate(Path path, Set<Section> included) throws IOException {
+        Map<Section, ByteBuffer> sections = new EnumMap<>(Section.class);
+        for (Section section : included) {
+            sections.put(section, section.generator.get());
+        }
+        write(path, sections);
+    }
+
+    /**
+     * Writes already built tables to {@code path}, replacing any existing file atomically.
+     */
+    static void write(Path path, Map<Section, ByteBuffer> sections) throws IOException {
+        int length = HEADER_BYTES;
+        for (ByteBuffer data : sections.values()) {
+            length += SECTION_HEADER_BYTES + data.remaining();
+        }
+        ByteBuffer file = ByteBuffer.allocate(length).order(ORDER);
+        file.position(HEADER_BYTES);
+        sections.forEach((section, data) -> file.putInt(section.ordinal()).putInt(data.remaining()).put(data));
+        CRC32 checksum = new CRC32();
+        checksum.update(file.flip().position(HEADER_BYTES));
+        file.rewind();
+        file.putInt(MAGIC).putInt(VERSION).putInt(sections.size()).putLong(checksum.getValue()).rewind();
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (file.hasRemaining()) {
+                channel.write(file);
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the tables in {@code path} and installs them into their evaluators. Must be called before the first hand is
+     * evaluated, evaluators that already built their tables keep them.
+     *
+     * @param path file written by {@link #generate(Path)}
+     * @throws IOException if the file cannot be read or is not a valid table file for this version
+     */
+    public static void load(Path path) throws IOException {
+        Map<Section, ByteBuffer> sections = read(path);
+        try {
+            sections.forEach((section, data) -> section.installer.accept(data));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed evaluation table in " + path, e);
+        }
+    }
+
+    /**
+     * Maps {@code path} read only and checks its header and checksum.
+     *
+     * @return a little endian view of each section's data
+     */
+    static Map<Section, ByteBuffer> read(Path path) throws IOException {
+        MappedByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        file.order(ORDER);
+        if (file.remaining() < HEADER_BYTES || file.getInt() != MAGIC) {
+            throw new IOException(path + " is not an evaluation table file.");
+        }
+        int version = file.getInt();
+        if (version != VERSION) {
+            throw new IOException("Evaluation table version " + version + " does not match " + VERSION + ".");
+        }
+        int sectionCount = file.getInt();
+        long expectedChecksum = file.getLong();
+        CRC32 checksum = new CRC32();
+        checksum.update(file.slice());
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IOException("Evaluation table checksum mismatch in " + path + ".");
+        }
+
+        Map<Section, ByteBuffer> sections = new EnumMap<>(Section.class);
+        try {
+            for (int i = 0; i < sectionCount; i++) {
+                Section section = Section.values()[file.getInt()];
+                int length = file.getInt();
+                sections.put(section, file.slice(file.position(), length).order(ORDER));
+                file.position(file.position() + length);
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Malformed evaluation table in " + path, e);
+        }
+        return sections;
+    }
+
+    private static ByteBuffer shorts(short[] table) {
+        ByteBuffer data = ByteBuffer.allocate(table.length * Short.BYTES).order(ORDER);
+        data.asShortBuffer().put(table);
+        return data;
+    }
+
+    /**
+     * Writes the tables to the file named by the first argument, or {@link #DEFAULT_FILE}. Any further arguments name
+     * the {@link Section}s to write, every section is written when none are named.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args.length > 0 ? args[0] : DEFAULT_FILE);
+        Set<Section> included = EnumSet.allOf(Section.class);
+        if (args.length > 1) {
+            included = EnumSet.noneOf(Section.class);
+            for (int i = 1; i < args.length; i++) {
+                included.add(Section.valueOf(args[i]));
+            }
+        }
+        generate(path, included);
+        System.out.println("Wrote evaluation tables to " + path.toAbsolutePath());
+    }
+}
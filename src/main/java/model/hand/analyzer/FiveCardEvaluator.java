@@ -0,0 +1,240 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.AnalyzerHelpers.PAIR_FREQUENCY;
+import static model.hand.analyzer.AnalyzerHelpers.QUADS_FREQUENCY;
+import static model.hand.analyzer.AnalyzerHelpers.STRAIGHT_LENGTH;
+import static model.hand.analyzer.AnalyzerHelpers.TRIPS_FREQUENCY;
+
+import java.util.Arrays;
+import model.card.Card;
+import model.hand.representation.HandRank;
+
+/**
+ * Table driven five card evaluator, maps any five cards to their {@link HandStrength} score without allocating.
+ *
+ * <p>
+ * Hands are passed already reduced to their rank mask and rank product, as {@link OmahaBoard} keeps them. Flushes and
+ * hands with five distinct ranks are looked up directly by their 13 bit rank mask, every other hand is found by
+ * binary searching the product of one prime per rank, which is unique for each multiset of ranks.
+ * </p>
+ */
+final class FiveCardEvaluator {
+
+    static final int RANK_COUNT = 13;
+    static final int SUIT_COUNT = CardCodes.SUIT_COUNT;
+    static final int COUNT_BITS = 4;
+    private static final int LOWEST_STRENGTH = Card.Rank.TWO.getStrength();
+    private static final int WHEEL = 1 << (RANK_COUNT - 1) | (1 << (STRAIGHT_LENGTH - 1)) - 1;
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+
+    /**
+     * Strength of the highest card of the best straight in a rank mask, or 0 if the mask holds no straight.
+     */
+    private static final int[] STRAIGHT_TOP = new int[1 << RANK_COUNT];
+    private static final int[] FLUSHES = new int[1 << RANK_COUNT];
+    private static final int[] UNIQUE_RANKS = new int[1 << RANK_COUNT];
+    private static final int[] PRODUCTS;
+    private static final int[] PRODUCT_SCORES;
+
+    static {
+        for (int mask = 0; mask < STRAIGHT_TOP.length; mask++) {
+            STRAIGHT_TOP[mask] = findStraightTop(mask);
+        }
+        long[] productScores = new long[1 << RANK_COUNT];
+        int index = 0;
+        for (int r1 = 0; r1 < RANK_COUNT; r1++) {
+            for (int r2 = r1; r2 < RANK_COUNT; r2++) {
+                for (int r3 = r2; r3 < RANK_COUNT; r3++) {
+                    for (int r4 = r3; r4 < RANK_COUNT; r4++) {
+                        for (int r5 = r4; r5 < RANK_COUNT; r5++) {
+                            if (r1 == r5) {
+                                continue;
+                            }
+                            int mask = 1 << r1 | 1 << r2 | 1 << r3 | 1 << r4 | 1 << r5;
+                            long counts = rankCount(r1) + rankCount(r2) + rankCount(r3) + rankCount(r4)
+                                + rankCount(r5);
+                            if (Integer.bitCount(mask) == STRAIGHT_LENGTH) {
+                                FLUSHES[mask] = flushScore(mask);
+                                UNIQUE_RANKS[mask] = rankScore(counts);
+                            } else {
+                                long product = (long) PRIMES[r1] * PRIMES[r2] * PRIMES[r3] * PRIMES[r4]
+                                    * PRIMES[r5];
+                                productScores[index++] = product << Integer.SIZE | rankScore(counts);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        productScores = Arrays.copyOf(productScores, index);
+        Arrays.sort(productScores);
+        PRODUCTS = new int[productScores.length];
+        PRODUCT_SCORES = new int[productScores.length];
+        for (int i = 0; i < productScores.length; i++) {
+            PRODUCTS[i] = (int) (productScores[i] >>> Integer.SIZE);
+            PRODUCT_SCORES[i] = (int) productScores[i];
+        }
+    }
+
+    private FiveCardEvaluator() {
+    }
+
+    /**
+     * Looks up a five card hand that has already been reduced to its rank mask and rank product.
+     *
+     * @param rankMask    one bit per rank index held in the hand
+     * @param rankProduct product of {@link #prime(int)} over the rank of every card in the hand
+     * @param flush       whether all five cards share a suit
+     * @return the packed strength of the hand
+     */
+    static int evaluate(int rankMask, int rankProduct, boolean flush) {
+        if (flush) {
+            return FLUSHES[rankMask];
+        }
+        if (Integer.bitCount(rankMask) == STRAIGHT_LENGTH) {
+            return UNIQUE_RANKS[rankMask];
+        }
+        return PRODUCT_SCORES[Arrays.binarySearch(PRODUCTS, rankProduct)];
+    }
+
+    static int prime(int rankIndex) {
+        return PRIMES[rankIndex];
+    }
+
+    /**
+     * Returns the strength of the highest card of the best straight in {@code rankMask}, or 0 if it holds none.
+     */
+    static int straightTop(int rankMask) {
+        return STRAIGHT_TOP[rankMask];
+    }
+
+    static long rankCount(int rankIndex) {
+        return 1L << rankIndex * COUNT_BITS;
+    }
+
+    /**
+     * Scores the best five card hand, ignoring flushes, that can be made from a rank histogram.
+     *
+     * @param rankCounts number of cards of each rank, {@link #COUNT_BITS} bits per rank index
+     * @return the packed strength of the best hand
+     */
+    static int rankScore(long rankCounts) {
+        int present = 0;
+        int pairs = 0;
+        int trips = 0;
+        int quads = 0;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            int count = (int) (rankCounts >>> rank * COUNT_BITS) & ((1 << COUNT_BITS) - 1);
+            int bit = count > 0 ? 1 << rank : 0;
+            present |= bit;
+            pairs |= count >= PAIR_FREQUENCY ? bit : 0;
+            trips |= count >= TRIPS_FREQUENCY ? bit : 0;
+            quads |= count >= QUADS_FREQUENCY ? bit : 0;
+        }
+        return rankScore(present, pairs, trips, quads);
+    }
+
+    /**
+     * Scores the best five card hand, ignoring flushes, from the ranks held at least once, twice, three and four times.
+     *
+     * @param present rank indexes held at least once, one bit each
+     * @param pairs   rank indexes held at least twice
+     * @param trips   rank indexes held at least three times
+     * @param quads   rank indexes held four times
+     * @return the packed strength of the best hand
+     */
+    static int rankScore(int present, int pairs, int trips, int quads) {
+        if (quads != 0) {
+            int quad = highest(quads);
+            int kicker = highest(present & ~bit(quad));
+            return HandStrength.pack(HandRank.FOUR_OF_A_KIND, quad, quad, quad, quad, kicker);
+        }
+        if (trips != 0) {
+            int trip = highest(trips);
+            int pairMask = pairs & ~bit(trip);
+            if (pairMask != 0) {
+                int pair = highest(pairMask);
+                return HandStrength.pack(HandRank.FULL_HOUSE, trip, trip, trip, pair, pair);
+            }
+        }
+        if (STRAIGHT_TOP[present] != 0) {
+            return straightScore(HandRank.STRAIGHT, STRAIGHT_TOP[present]);
+        }
+        if (trips != 0) {
+            int trip = highest(trips);
+            int kickers = present & ~bit(trip);
+            int k1 = highest(kickers);
+            int k2 = highest(kickers & ~bit(k1));
+            return HandStrength.pack(HandRank.THREE_OF_A_KIND, trip, trip, trip, k1, k2);
+        }
+        if (Integer.bitCount(pairs) >= 2) {
+            int high = highest(pairs);
+            int low = highest(pairs & ~bit(high));
+            int kicker = highest(present & ~bit(high) & ~bit(low));
+            return HandStrength.pack(HandRank.TWO_PAIR, high, high, low, low, kicker);
+        }
+        if (pairs != 0) {
+            int pair = highest(pairs);
+            int kickers = present & ~bit(pair);
+            int k1 = highest(kickers);
+            kickers &= ~bit(k1);
+            int k2 = highest(kickers);
+            int k3 = highest(kickers & ~bit(k2));
+            return HandStrength.pack(HandRank.PAIR, pair, pair, k1, k2, k3);
+        }
+        return highCardScore(HandRank.HIGH_CARD, present);
+    }
+
+    /**
+     * Scores the best five card hand that can be made from the ranks of a single suit.
+     *
+     * @param rankMask ranks held in the suit, must contain at least five ranks
+     * @return the packed strength of the best straight flush, royal flush or flush
+     */
+    static int flushScore(int rankMask) {
+        int straightTop = STRAIGHT_TOP[rankMask];
+        if (straightTop == Card.Rank.ACE.getStrength()) {
+            return straightScore(HandRank.ROYAL_FLUSH, straightTop);
+        } else if (straightTop != 0) {
+            return straightScore(HandRank.STRAIGHT_FLUSH, straightTop);
+        }
+        return highCardScore(HandRank.FLUSH, rankMask);
+    }
+
+    private static int straightScore(HandRank handRank, int top) {
+        return HandStrength.pack(handRank, top, top - 1, top - 2, top - 3, top - 4);
+    }
+
+    private static int highCardScore(HandRank handRank, int rankMask) {
+        int k1 = highest(rankMask);
+        rankMask &= ~bit(k1);
+        int k2 = highest(rankMask);
+        rankMask &= ~bit(k2);
+        int k3 = highest(rankMask);
+        rankMask &= ~bit(k3);
+        int k4 = highest(rankMask);
+        int k5 = highest(rankMask & ~bit(k4));
+        return HandStrength.pack(handRank, k1, k2, k3, k4, k5);
+    }
+
+    /**
+     * Returns the strength of the highest rank in {@code rankMask}.
+     */
+    private static int highest(int rankMask) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(rankMask) + LOWEST_STRENGTH;
+    }
+
+    private static int bit(int strength) {
+        return 1 << (strength - LOWEST_STRENGTH);
+    }
+
+    private static int findStraightTop(int rankMask) {
+        for (int low = RANK_COUNT - STRAIGHT_LENGTH; low >= 0; low--) {
+            int straight = ((1 << STRAIGHT_LENGTH) - 1) << low;
+            if ((rankMask & straight) == straight) {
+                return low + STRAIGHT_LENGTH - 1 + LOWEST_STRENGTH;
+            }
+        }
+        return (rankMask & WHEEL) == WHEEL ? Card.Rank.FIVE.getStrength() : 0;
+    }
+}
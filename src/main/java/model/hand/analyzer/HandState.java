@@ -0,0 +1,169 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.AnalyzerHelpers.PAIR_FREQUENCY;
+import static model.hand.analyzer.AnalyzerHelpers.QUADS_FREQUENCY;
+import static model.hand.analyzer.AnalyzerHelpers.STRAIGHT_LENGTH;
+import static model.hand.analyzer.AnalyzerHelpers.TRIPS_FREQUENCY;
+import static model.hand.analyzer.FiveCardEvaluator.COUNT_BITS;
+import static model.hand.analyzer.FiveCardEvaluator.RANK_COUNT;
+import static model.hand.analyzer.FiveCardEvaluator.SUIT_COUNT;
+import static model.hand.analyzer.SevenCardEvaluator.SUIT_MASK_BITS;
+
+import java.util.List;
+import model.card.Card;
+import model.hand.representation.HandRank;
+
+/**
+ * Running evaluation state of the cards a player holds, updated in constant time as each card is dealt.
+ *
+ * <p>
+ * The state keeps the same rank histogram, per suit rank masks and suit counts the {@link SevenCardEvaluator} builds,
+ * so the current hand category and draws can be read at any street without re-analyzing the cards. The score is only
+ * computed once per card dealt and only when asked for.
+ * </p>
+ */
+public final class HandState {
+
+    private static final int UNSCORED = -1;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    /**
+     * Rank mask of A-6-7-8-9, the lowest straight in the short deck.
+     */
+    private static final int SHORT_DECK_WHEEL = 1 << RANK_COUNT - 1
+        | ((1 << STRAIGHT_LENGTH - 1) - 1) << Card.Rank.SIX.getStrength() - Card.Rank.TWO.getStrength();
+
+    private long cardMask;
+    private long rankCounts;
+    private long suitMasks;
+    private int suitCounts;
+    private int rankMask;
+    private int size;
+    private int score = UNSCORED;
+
+    public HandState() {
+    }
+
+    public HandState(List<Card> cards) {
+        for (int i = 0; i < cards.size(); i++) {
+            add(cards.get(i));
+        }
+    }
+
+    public void add(Card card) {
+        add(CardCodes.of(card));
+    }
+
+    /**
+     * Adds one card to the state.
+     *
+     * @param code {@link CardCodes} of the card dealt
+     */
+    public void add(int code) {
+        int rank = code / SUIT_COUNT;
+        int suit = code % SUIT_COUNT;
+        cardMask |= 1L << code;
+        rankCounts += FiveCardEvaluator.rankCount(rank);
+        suitMasks |= 1L << (suit * SUIT_MASK_BITS + rank);
+        suitCounts += 1 << suit * COUNT_BITS;
+        rankMask |= 1 << rank;
+        size++;
+        score = UNSCORED;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@link CardCodes#mask(List)} of the cards added so far.
+     */
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * Returns the packed {@link HandStrength} of the best five card hand, the state must hold at least five cards.
+     */
+    public int getScore() {
+        if (size < STRAIGHT_LENGTH) {
+            throw new IllegalStateException("A hand needs at least " + STRAIGHT_LENGTH + " cards to be scored.");
+        }
+        if (score == UNSCORED) {
+            score = SevenCardEvaluator.score(rankCounts, suitMasks, suitCounts);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the category of the best hand made so far, hands of fewer than five cards can only be made of pairs.
+     */
+    public HandRank getHandRank() {
+        if (size >= STRAIGHT_LENGTH) {
+            return HandStrength.handRank(getScore());
+        }
+        int pairs = 0;
+        int mostOfRank = 0;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            int count = (int) (rankCounts >>> rank * COUNT_BITS) & COUNT_MASK;
+            pairs += count >= PAIR_FREQUENCY ? 1 : 0;
+            mostOfRank = Math.max(mostOfRank, count);
+        }
+        if (mostOfRank >= QUADS_FREQUENCY) {
+            return HandRank.FOUR_OF_A_KIND;
+        } else if (mostOfRank >= TRIPS_FREQUENCY) {
+            return HandRank.THREE_OF_A_KIND;
+        } else if (pairs >= 2) {
+            return HandRank.TWO_PAIR;
+        }
+        return pairs == 1 ? HandRank.PAIR : HandRank.HIGH_CARD;
+    }
+
+    /**
+     * Returns whether one more card of some suit would make a flush that is not already made.
+     */
+    public boolean hasFlushDraw() {
+        boolean draw = false;
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            int count = suitCounts >>> suit * COUNT_BITS & COUNT_MASK;
+            if (count >= STRAIGHT_LENGTH) {
+                return false;
+            }
+            draw |= count == STRAIGHT_LENGTH - 1;
+        }
+        return draw;
+    }
+
+    /**
+     * Returns whether one more card of some rank would make a straight that is not already made.
+     */
+    public boolean hasStraightDraw() {
+        return hasStraightDraw(0);
+    }
+
+    /**
+     * Returns whether one more card of some rank would make a short deck straight, where A-6-7-8-9 is the lowest, that
+     * is not already made.
+     */
+    public boolean hasShortDeckStraightDraw() {
+        return hasStraightDraw(SHORT_DECK_WHEEL);
+    }
+
+    private boolean hasStraightDraw(int wheel) {
+        if (Integer.bitCount(rankMask) < STRAIGHT_LENGTH - 1 || isStraight(rankMask, wheel)) {
+            return false;
+        }
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            if (isStraight(rankMask | 1 << rank, wheel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether {@code ranks} holds a straight, counting {@code wheel} as one when it is not 0.
+     */
+    private static boolean isStraight(int ranks, int wheel) {
+        return FiveCardEvaluator.straightTop(ranks) != 0 || wheel != 0 && (ranks & wheel) == wheel;
+    }
+}
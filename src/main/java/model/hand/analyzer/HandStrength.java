@@ -0,0 +1,69 @@
+package model.hand.analyzer;
+
+import model.card.Card;
+import model.hand.representation.HandRank;
+
+/**
+ * Packs a hand's category and the ranks of its best five cards into a single {@code int}, so two hands can be
+ * compared with a plain integer comparison.
+ *
+ * <p>
+ * The category is the {@link HandRank#getStrength()} stored from bit 20 up, followed by the five card ranks in order
+ * of significance, four bits each. A full house of kings over twos is stored as {@code K K K 2 2}, and an ace playing
+ * low in a wheel straight is stored as {@link Card.Rank#ONE}.
+ * </p>
+ */
+public final class HandStrength {
+
+    static final int RANK_BITS = 4;
+    static final int CATEGORY_SHIFT = RANK_BITS * 5;
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+
+    private static final HandRank[] HAND_RANKS = new HandRank[HandRank.values().length + 1];
+    private static final HandRank[] SHORT_DECK_HAND_RANKS = new HandRank[HandRank.values().length + 1];
+    private static final Card.Rank[] RANKS = new Card.Rank[Card.Rank.ACE.getStrength() + 1];
+
+    static {
+        for (HandRank handRank : HandRank.values()) {
+            HAND_RANKS[handRank.getStrength()] = handRank;
+            SHORT_DECK_HAND_RANKS[handRank.getShortDeckStrength()] = handRank;
+        }
+        for (Card.Rank rank : Card.Rank.values()) {
+            RANKS[rank.getStrength()] = rank;
+        }
+    }
+
+    private HandStrength() {
+    }
+
+    public static HandRank handRank(int score) {
+        return HAND_RANKS[score >>> CATEGORY_SHIFT];
+    }
+
+    /**
+     * Returns the category of a score whose category is stored as a {@link HandRank#getShortDeckStrength()}.
+     */
+    public static HandRank shortDeckHandRank(int score) {
+        return SHORT_DECK_HAND_RANKS[score >>> CATEGORY_SHIFT];
+    }
+
+    /**
+     * Returns the rank of the card at {@code position} in the best hand, 0 being the most significant card.
+     *
+     * @param score    packed hand strength
+     * @param position position of the card in the best hand, from 0 to 4
+     * @return the rank of that card
+     */
+    public static Card.Rank rankAt(int score, int position) {
+        return RANKS[(score >>> (CATEGORY_SHIFT - RANK_BITS * (position + 1))) & RANK_MASK];
+    }
+
+    static int pack(HandRank handRank, int r1, int r2, int r3, int r4, int r5) {
+        return pack(handRank.getStrength(), r1, r2, r3, r4, r5);
+    }
+
+    static int pack(int category, int r1, int r2, int r3, int r4, int r5) {
+        return category << CATEGORY_SHIFT
+            | r1 << RANK_BITS * 4 | r2 << RANK_BITS * 3 | r3 << RANK_BITS * 2 | r4 << RANK_BITS | r5;
+    }
+}
@@ -1,7 +1,5 @@
 package model.hand.analyzer;
 
-import static model.hand.analyzer.AnalyzerHelpers.recurseCombinations;
-
 import java.util.List;
 import model.card.Card;
 
@@ -11,8 +9,30 @@ public class HoldEmAnalyzer extends HandAnalyzer {
         super(fullHand);
     }
 
+    /**
+     * Scores the best five card hand in {@code fullHand} in a single pass over the cards, without building the
+     * analyzer or any of the five card combinations.
+     *
+     * @param fullHand the player's hole cards and the community cards
+     * @return the packed {@link HandStrength} of the best hand
+     */
+    public static int evaluate(List<Card> fullHand) {
+        return SevenCardEvaluator.evaluate(fullHand);
+    }
+
+    /**
+     * Scores the best five card hand in the first {@code length} cards of {@code cards}.
+     *
+     * @param cards  {@link CardCodes} of the player's hole cards and the community cards
+     * @param length number of cards to evaluate
+     * @return the packed {@link HandStrength} of the best hand
+     */
+    public static int evaluate(int[] cards, int length) {
+        return SevenCardEvaluator.evaluate(cards, length);
+    }
+
     @Override
-    public final List<List<Card>> fiveCardCombinations(List<Card> fullHand) {
-        return recurseCombinations(fullHand, 5);
+    final int analyze() {
+        return evaluate(fullHand);
     }
 }
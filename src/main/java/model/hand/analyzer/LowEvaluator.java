@@ -0,0 +1,80 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.AnalyzerHelpers.STRAIGHT_LENGTH;
+import static model.hand.analyzer.FiveCardEvaluator.RANK_COUNT;
+import static model.hand.analyzer.FiveCardEvaluator.SUIT_COUNT;
+
+import model.card.Card;
+
+/**
+ * Eight or better low evaluation for split pot games, straights and flushes do not count against a low and aces play
+ * low.
+ *
+ * <p>
+ * Only the ranks ace through eight can make a low, so a low is one bit per rank in an eight bit mask, ace first. Every
+ * mask holding five ranks is a qualifying low and is scored once up front; a higher score is a better low and 0 means
+ * the cards hold no low.
+ * </p>
+ */
+final class LowEvaluator {
+
+    static final int NO_LOW = 0;
+    private static final int LOW_RANKS = Card.Rank.EIGHT.getStrength();
+    private static final int RANK_BITS = 4;
+    private static final int SCORE_BASE = 1 << RANK_BITS * STRAIGHT_LENGTH;
+
+    /**
+     * Low rank bit of each rank index, or 0 for ranks above eight.
+     */
+    private static final int[] LOW_BITS = new int[RANK_COUNT];
+    private static final int[] LOW_SCORES = new int[1 << LOW_RANKS];
+
+    static {
+        LOW_BITS[RANK_COUNT - 1] = 1;
+        for (int rank = 0; rank < LOW_RANKS - 1; rank++) {
+            LOW_BITS[rank] = 1 << rank + 1;
+        }
+        for (int mask = 0; mask < LOW_SCORES.length; mask++) {
+            if (Integer.bitCount(mask) == STRAIGHT_LENGTH) {
+                int ranks = 0;
+                for (int bit = LOW_RANKS - 1; bit >= 0; bit--) {
+                    if ((mask & 1 << bit) != 0) {
+                        ranks = ranks << RANK_BITS | bit + 1;
+                    }
+                }
+                LOW_SCORES[mask] = SCORE_BASE - ranks;
+            }
+        }
+    }
+
+    private LowEvaluator() {
+    }
+
+    /**
+     * Returns the low rank bit of a card, or 0 if the card is too high to play in a low.
+     *
+     * @param code {@link CardCodes} of the card
+     */
+    static int lowBit(int code) {
+        return LOW_BITS[code / SUIT_COUNT];
+    }
+
+    /**
+     * Scores the best low made of two hole card ranks and three of the community card ranks.
+     *
+     * @param pairMask  low rank bits of the two hole cards, which must be two different low ranks
+     * @param boardMask low rank bits of the community cards
+     * @return the score of the best low, or {@link #NO_LOW}
+     */
+    static int score(int pairMask, int boardMask) {
+        int available = boardMask & ~pairMask;
+        if (Integer.bitCount(available) < STRAIGHT_LENGTH - 2) {
+            return NO_LOW;
+        }
+        int lowest = available & -available;
+        available ^= lowest;
+        int second = available & -available;
+        available ^= second;
+        return LOW_SCORES[pairMask | lowest | second | available & -available];
+    }
+}
@@ -1,45 +1,88 @@
 package model.hand.analyzer;
 
-import static model.hand.analyzer.AnalyzerHelpers.recurseCombinations;
-
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 import model.card.Card;
 
 public class OmahaAnalyzer extends HandAnalyzer {
 
     private static final int PLAYER_HAND_LENGTH = 4;
-    private List<Card> playerHand;
-    private List<Card> community;
+    private static final int PLAYER_CARDS_USED = 2;
 
+    /**
+     * Analyzes a four card Omaha hand, five and six card hands are scored with {@link #evaluate(List, OmahaBoard)}.
+     *
+     * @param fullHand the player's four hole cards followed by the community cards
+     */
     public OmahaAnalyzer(List<Card> fullHand) {
         super(fullHand);
     }
 
     @Override
-    public void analyze() {
-        playerHand = new ArrayList<>();
-        community = new ArrayList<>();
-        IntStream.range(0, PLAYER_HAND_LENGTH).forEach(i -> playerHand.add(fullHand.get(i)));
-        IntStream.range(PLAYER_HAND_LENGTH, fullHand.size())
-            .forEach(i -> community.add(fullHand.get(i)));
-        super.analyze();
+    final int analyze() {
+        OmahaBoard board = new OmahaBoard(fullHand.subList(PLAYER_HAND_LENGTH, fullHand.size()));
+        return evaluate(fullHand.subList(0, PLAYER_HAND_LENGTH), board);
+    }
+
+    /**
+     * Scores the best hand made of exactly two of the player's cards and three of the community cards, against a
+     * board that can be shared by every player at the showdown.
+     *
+     * @param playerHand the player's hole cards
+     * @param board      the community cards
+     * @return the packed {@link HandStrength} of the best hand
+     */
+    public static int evaluate(List<Card> playerHand, OmahaBoard board) {
+        return evaluate(CardCodes.of(playerHand), board);
+    }
+
+    /**
+     * Scores the best hand made of exactly two of the player's cards and three of the community cards.
+     *
+     * @param cards {@link CardCodes} of the player's hole cards
+     * @param board the community cards
+     * @return the packed {@link HandStrength} of the best hand
+     */
+    public static int evaluate(int[] cards, OmahaBoard board) {
+        int[] indexes = Combinations.indexes(cards.length, PLAYER_CARDS_USED);
+        int topScore = 0;
+        for (int i = 0; i < indexes.length; i += PLAYER_CARDS_USED) {
+            topScore = Math.max(topScore, board.rankScore(cards[indexes[i]], cards[indexes[i + 1]]));
+        }
+        return bestFlush(cards, indexes, board, topScore);
+    }
+
+    /**
+     * Raises {@code topScore} to the best flush of any suited pair, skipping the lookups entirely once the hand is
+     * already stronger than any flush the board allows.
+     */
+    private static int bestFlush(int[] cards, int[] indexes, OmahaBoard board, int topScore) {
+        if (topScore >= board.flushCeiling()) {
+            return topScore;
+        }
+        for (int i = 0; i < indexes.length; i += PLAYER_CARDS_USED) {
+            topScore = Math.max(topScore, board.flushScore(cards[indexes[i]], cards[indexes[i + 1]]));
+        }
+        return topScore;
     }
 
-    public final List<List<Card>> fiveCardCombinations(List<Card> fullHand) {
-        List<List<Card>> combinationsTotal = new ArrayList<>();
-        List<List<Card>> combinationsPlayer = recurseCombinations(playerHand, 2);
-        List<List<Card>> combinationsCommunity = recurseCombinations(community, 3);
-
-        for (List<Card> communityCombos : combinationsCommunity) {
-            for (List<Card> playerCombos : combinationsPlayer) {
-                List<Card> temp = new ArrayList<>();
-                temp.addAll(communityCombos);
-                temp.addAll(playerCombos);
-                combinationsTotal.add(temp);
-            }
+    /**
+     * Scores the best high hand and the best eight or better low of an Omaha Hi-Lo hand in one pass over the hole card
+     * pairs.
+     *
+     * @param cards {@link CardCodes} of the player's hole cards
+     * @param board the community cards
+     * @return the high score in the upper 32 bits and the low score, 0 when there is no low, in the lower 32 bits
+     */
+    public static long evaluateHiLo(int[] cards, OmahaBoard board) {
+        int[] indexes = Combinations.indexes(cards.length, PLAYER_CARDS_USED);
+        int topScore = 0;
+        int topLow = LowEvaluator.NO_LOW;
+        for (int i = 0; i < indexes.length; i += PLAYER_CARDS_USED) {
+            int h1 = cards[indexes[i]];
+            int h2 = cards[indexes[i + 1]];
+            topScore = Math.max(topScore, board.rankScore(h1, h2));
+            topLow = Math.max(topLow, board.lowScore(h1, h2));
         }
-        return combinationsTotal;
+        return (long) bestFlush(cards, indexes, board, topScore) << Integer.SIZE | topLow;
     }
 }
@@ -0,0 +1,183 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.AnalyzerHelpers.STRAIGHT_LENGTH;
+import static model.hand.analyzer.FiveCardEvaluator.RANK_COUNT;
+import static model.hand.analyzer.FiveCardEvaluator.SUIT_COUNT;
+import static model.hand.analyzer.FiveCardEvaluator.prime;
+
+import java.util.List;
+import model.card.Card;
+import model.hand.representation.HandRank;
+
+/**
+ * Facts about the community cards of an Omaha hand that are the same for every player, computed once per showdown.
+ *
+ * <p>
+ * Every three card subset of the board is reduced up front to its rank mask, rank product and, when all three cards
+ * share a suit, that suit. Scoring a pair of hole cards then only combines those with the pair, and flushes are only
+ * looked up for suited pairs in a suit that has three or more cards on the board.
+ * </p>
+ *
+ * <p>
+ * The best non flush score of each pair of hole card ranks is remembered, so players holding five or six cards, whose
+ * pairs share many ranks with each other and with the other players, mostly read scores that are already known.
+ * Filling the same entry from two threads at once is harmless since both store the same score.
+ * </p>
+ */
+public final class OmahaBoard {
+
+    static final int COMMUNITY_CARDS_USED = 3;
+    private static final int NO_SUIT = -1;
+
+    private final int size;
+    private final int[] subsetMasks;
+    private final int[] subsetProducts;
+    private final int[] subsetSuits;
+    private final int flushSuits;
+    private final int flushCeiling;
+    private final int lowMask;
+    private final int[] rankPairScores = new int[RANK_COUNT * RANK_COUNT];
+
+    public OmahaBoard(List<Card> community) {
+        this(CardCodes.of(community));
+    }
+
+    /**
+     * Precomputes the board from the {@link CardCodes} of the community cards.
+     *
+     * @param cards card codes of the community cards
+     */
+    public OmahaBoard(int[] cards) {
+        int[] indexes = Combinations.indexes(cards.length, COMMUNITY_CARDS_USED);
+        int subsets = indexes.length / COMMUNITY_CARDS_USED;
+        size = cards.length;
+        subsetMasks = new int[subsets];
+        subsetProducts = new int[subsets];
+        subsetSuits = new int[subsets];
+        int suitCounts = 0;
+        int lowRanks = 0;
+        for (int card : cards) {
+            suitCounts += 1 << card % SUIT_COUNT * FiveCardEvaluator.COUNT_BITS;
+            lowRanks |= LowEvaluator.lowBit(card);
+        }
+        lowMask = lowRanks;
+        int suits = 0;
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            int count = suitCounts >>> suit * FiveCardEvaluator.COUNT_BITS & ((1 << FiveCardEvaluator.COUNT_BITS) - 1);
+            suits |= count >= COMMUNITY_CARDS_USED ? 1 << suit : 0;
+        }
+        flushSuits = suits;
+        flushCeiling = findFlushCeiling(cards, suits);
+        for (int subset = 0; subset < subsets; subset++) {
+            int c1 = cards[indexes[subset * COMMUNITY_CARDS_USED]];
+            int c2 = cards[indexes[subset * COMMUNITY_CARDS_USED + 1]];
+            int c3 = cards[indexes[subset * COMMUNITY_CARDS_USED + 2]];
+            subsetMasks[subset] = 1 << c1 / SUIT_COUNT | 1 << c2 / SUIT_COUNT | 1 << c3 / SUIT_COUNT;
+            subsetProducts[subset] = prime(c1 / SUIT_COUNT) * prime(c2 / SUIT_COUNT) * prime(c3 / SUIT_COUNT);
+            boolean suited = c1 % SUIT_COUNT == c2 % SUIT_COUNT && c1 % SUIT_COUNT == c3 % SUIT_COUNT;
+            subsetSuits[subset] = suited ? c1 % SUIT_COUNT : NO_SUIT;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Scores the best eight or better low made of both hole cards and three of the community cards.
+     *
+     * @param h1 card code of the first hole card
+     * @param h2 card code of the second hole card
+     * @return the score of the best low, or 0 if the cards make no low
+     */
+    int lowScore(int h1, int h2) {
+        int b1 = LowEvaluator.lowBit(h1);
+        int b2 = LowEvaluator.lowBit(h2);
+        if (b1 == 0 || b2 == 0 || b1 == b2) {
+            return LowEvaluator.NO_LOW;
+        }
+        return LowEvaluator.score(b1 | b2, lowMask);
+    }
+
+    /**
+     * Scores the best hand, ignoring flushes, made of both hole cards and three of the community cards.
+     *
+     * @param h1 card code of the first hole card
+     * @param h2 card code of the second hole card
+     * @return the packed strength of the best non flush hand
+     */
+    int rankScore(int h1, int h2) {
+        int r1 = h1 / SUIT_COUNT;
+        int r2 = h2 / SUIT_COUNT;
+        int rankPair = Math.min(r1, r2) * RANK_COUNT + Math.max(r1, r2);
+        int topScore = rankPairScores[rankPair];
+        if (topScore == 0) {
+            int pairMask = 1 << r1 | 1 << r2;
+            int pairProduct = prime(r1) * prime(r2);
+            for (int subset = 0; subset < subsetMasks.length; subset++) {
+                int score = FiveCardEvaluator.evaluate(subsetMasks[subset] | pairMask,
+                    subsetProducts[subset] * pairProduct, false);
+                topScore = Math.max(topScore, score);
+            }
+            rankPairScores[rankPair] = topScore;
+        }
+        return topScore;
+    }
+
+    /**
+     * Scores the best flush made of both hole cards and three community cards of their suit.
+     *
+     * @param h1 card code of the first hole card
+     * @param h2 card code of the second hole card
+     * @return the packed strength of the best flush, or 0 if the pair cannot make one
+     */
+    int flushScore(int h1, int h2) {
+        int suit = h1 % SUIT_COUNT;
+        if (suit != h2 % SUIT_COUNT || (flushSuits & 1 << suit) == 0) {
+            return 0;
+        }
+        int pairMask = 1 << h1 / SUIT_COUNT | 1 << h2 / SUIT_COUNT;
+        int topScore = 0;
+        for (int subset = 0; subset < subsetMasks.length; subset++) {
+            if (subsetSuits[subset] == suit) {
+                topScore = Math.max(topScore, FiveCardEvaluator.evaluate(subsetMasks[subset] | pairMask, 0, true));
+            }
+        }
+        return topScore;
+    }
+
+    /**
+     * Returns a score that no flush on this board can reach, a hand scoring at least this much never needs its
+     * flushes looked up. It is 0 when the board allows no flush, the lowest full house when it allows flushes but no
+     * straight flush, and unbounded otherwise.
+     */
+    int flushCeiling() {
+        return flushCeiling;
+    }
+
+    private static int findFlushCeiling(int[] cards, int flushSuits) {
+        if (flushSuits == 0) {
+            return 0;
+        }
+        int[] suitRanks = new int[SUIT_COUNT];
+        for (int card : cards) {
+            suitRanks[card % SUIT_COUNT] |= 1 << card / SUIT_COUNT;
+        }
+        int wheel = 1 << (RANK_COUNT - 1) | (1 << (STRAIGHT_LENGTH - 1)) - 1;
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            if ((flushSuits & 1 << suit) == 0) {
+                continue;
+            }
+            if (Integer.bitCount(suitRanks[suit] & wheel) >= COMMUNITY_CARDS_USED) {
+                return Integer.MAX_VALUE;
+            }
+            for (int low = 0; low <= RANK_COUNT - STRAIGHT_LENGTH; low++) {
+                int window = ((1 << STRAIGHT_LENGTH) - 1) << low;
+                if (Integer.bitCount(suitRanks[suit] & window) >= COMMUNITY_CARDS_USED) {
+                    return Integer.MAX_VALUE;
+                }
+            }
+        }
+        return HandRank.FULL_HOUSE.getStrength() << HandStrength.CATEGORY_SHIFT;
+    }
+}
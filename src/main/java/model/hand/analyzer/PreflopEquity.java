@@ -0,0 +1,266 @@
+package model.hand.analyzer;
+
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import model.card.Card;
+import model.hand.equity.EquityGame;
+import model.hand.equity.ExhaustiveEquity;
+
+/**
+ * Heads up, all in preflop Hold'em equities, looked up in constant time from tables precomputed by enumerating every
+ * board for every pair of starting hands.
+ *
+ * <p>
+ * Starting hands are indexed two ways. A combo is one of the 1326 pairs of distinct cards, and a class is one of the
+ * 169 cells of the usual 13 by 13 grid: pairs on the diagonal, suited hands with the higher rank as the row and offsuit
+ * hands with the higher rank as the column. Equities are stored as fixed point shorts in units of {@code 1 / }
+ * {@link #SCALE}, a class equity is the average over every pair of combos from the two classes that share no card.
+ * </p>
+ *
+ * <p>
+ * The tables are built offline by {@link EvaluationTables} and installed when the table file is loaded. Until then,
+ * combo equities are enumerated on first use and remembered by their {@link SuitCanonicalizer} form. The enumeration
+ * runs outside the map so no lock is held through it, two threads missing on the same matchup at once both enumerate
+ * it and store the same equity.
+ * </p>
+ */
+public final class PreflopEquity {
+
+    public static final int COMBO_COUNT = CardCodes.CARD_COUNT * (CardCodes.CARD_COUNT - 1) / 2;
+    public static final int CLASS_COUNT = FiveCardEvaluator.RANK_COUNT * FiveCardEvaluator.RANK_COUNT;
+    static final int SCALE = Short.MAX_VALUE;
+    static final int TABLE_LENGTH = COMBO_COUNT * COMBO_COUNT + CLASS_COUNT * CLASS_COUNT;
+
+    private static final int[] COMBO_LOW_CARDS = new int[COMBO_COUNT];
+    private static final int[] COMBO_HIGH_CARDS = new int[COMBO_COUNT];
+    private static final int[] COMBO_CLASSES = new int[COMBO_COUNT];
+    private static final Map<Integer, Double> CALCULATED = new ConcurrentHashMap<>();
+
+    private static volatile ShortBuffer comboEquities;
+    private static volatile ShortBuffer classEquities;
+
+    static {
+        for (int high = 1; high < CardCodes.CARD_COUNT; high++) {
+            for (int low = 0; low < high; low++) {
+                int combo = comboIndex(low, high);
+                COMBO_LOW_CARDS[combo] = low;
+                COMBO_HIGH_CARDS[combo] = high;
+                COMBO_CLASSES[combo] = classIndex(low, high);
+            }
+        }
+    }
+
+    private PreflopEquity() {
+    }
+
+    /**
+     * Returns the share of the pot {@code holeCards} expects to win all in preflop against {@code opponentHoleCards}.
+     *
+     * @param holeCards         the player's two hole cards
+     * @param opponentHoleCards the opponent's two hole cards, sharing no card with {@code holeCards}
+     * @return the player's equity, from 0 to 1
+     */
+    public static double equity(List<Card> holeCards, List<Card> opponentHoleCards) {
+        return equity(comboIndex(holeCards), comboIndex(opponentHoleCards));
+    }
+
+    /**
+     * Returns the preflop equity of one combo against another.
+     *
+     * @param combo         {@link #comboIndex(List)} of the player's hand
+     * @param opponentCombo {@link #comboIndex(List)} of the opponent's hand
+     * @return the player's equity, from 0 to 1
+     * @throws IllegalArgumentException if the hands share a card
+     */
+    public static double equity(int combo, int opponentCombo) {
+        long mask = comboMask(combo);
+        long opponentMask = comboMask(opponentCombo);
+        if ((mask & opponentMask) != 0) {
+            throw new IllegalArgumentException("Hands share a card.");
+        }
+        ShortBuffer table = comboEquities;
+        if (table != null) {
+            return (double) table.get(combo * COMBO_COUNT + opponentCombo) / SCALE;
+        }
+        int matchup = canonicalMatchup(mask, opponentMask);
+        Double calculated = CALCULATED.get(matchup);
+        if (calculated == null) {
+            calculated = calculate(matchup);
+            CALCULATED.putIfAbsent(matchup, calculated);
+        }
+        return calculated;
+    }
+
+    /**
+     * Returns the preflop equity of one starting hand class against another, averaged over their combos.
+     *
+     * @param handClass         {@link #classIndex(List)} of the player's hand
+     * @param opponentHandClass {@link #classIndex(List)} of the opponent's hand
+     * @return the player's average equity, from 0 to 1
+     */
+    public static double classEquity(int handClass, int opponentHandClass) {
+        ShortBuffer table = classEquities;
+        if (table != null) {
+            return (double) table.get(handClass * CLASS_COUNT + opponentHandClass) / SCALE;
+        }
+        double total = 0;
+        int matchups = 0;
+        for (int combo : combosOf(handClass)) {
+            for (int opponentCombo : combosOf(opponentHandClass)) {
+                if ((comboMask(combo) & comboMask(opponentCombo)) == 0) {
+                    total += equity(combo, opponentCombo);
+                    matchups++;
+                }
+            }
+        }
+        return total / matchups;
+    }
+
+    /**
+     * Returns the index, from 0 to {@link #COMBO_COUNT} - 1, of two distinct hole cards in either order.
+     */
+    public static int comboIndex(List<Card> holeCards) {
+        int first = CardCodes.of(holeCards.get(0));
+        int second = CardCodes.of(holeCards.get(1));
+        return comboIndex(Math.min(first, second), Math.max(first, second));
+    }
+
+    private static int comboIndex(long mask) {
+        return comboIndex(Long.numberOfTrailingZeros(mask), Long.SIZE - 1 - Long.numberOfLeadingZeros(mask));
+    }
+
+    private static int comboIndex(int low, int high) {
+        return high * (high - 1) / 2 + low;
+    }
+
+    /**
+     * Returns the grid index, from 0 to {@link #CLASS_COUNT} - 1, of the class two hole cards belong to.
+     */
+    public static int classIndex(List<Card> holeCards) {
+        return COMBO_CLASSES[comboIndex(holeCards)];
+    }
+
+    private static int classIndex(int low, int high) {
+        int lowRank = low / CardCodes.SUIT_COUNT;
+        int highRank = high / CardCodes.SUIT_COUNT;
+        boolean suited = low % CardCodes.SUIT_COUNT == high % CardCodes.SUIT_COUNT;
+        return suited ? highRank * FiveCardEvaluator.RANK_COUNT + lowRank
+            : lowRank * FiveCardEvaluator.RANK_COUNT + highRank;
+    }
+
+    /**
+     * Uses precomputed tables, such as ones mapped from disk, for every later lookup.
+     *
+     * @param tables the combo table followed by the class table, in the layout of {@link #generateTables()}
+     */
+    static void install(ShortBuffer tables) {
+        if (tables.remaining() != TABLE_LENGTH) {
+            throw new IllegalArgumentException("Preflop table holds " + tables.remaining() + " equities, expected "
+                + TABLE_LENGTH + ".");
+        }
+        comboEquities = tables.slice(0, COMBO_COUNT * COMBO_COUNT);
+        classEquities = tables.slice(COMBO_COUNT * COMBO_COUNT, CLASS_COUNT * CLASS_COUNT);
+    }
+
+    /**
+     * Enumerates every board for every distinct matchup of combos, up to suit relabeling and seat order, in parallel
+     * on the common pool. Takes hours of CPU time, so it is only run to write the table file.
+     *
+     * @return the combo table indexed by {@code combo * COMBO_COUNT + opponentCombo}, followed by the class table
+     *     indexed by {@code handClass * CLASS_COUNT + opponentHandClass}
+     */
+    static short[] generateTables() {
+        Map<Integer, Integer> matchupIndexes = new HashMap<>();
+        List<Integer> matchups = new ArrayList<>();
+        for (int combo = 0; combo < COMBO_COUNT; combo++) {
+            for (int opponentCombo = 0; opponentCombo < COMBO_COUNT; opponentCombo++) {
+                long mask = comboMask(combo);
+                long opponentMask = comboMask(opponentCombo);
+                if ((mask & opponentMask) == 0
+                    && !matchupIndexes.containsKey(canonicalMatchup(opponentMask, mask))
+                    && matchupIndexes.putIfAbsent(canonicalMatchup(mask, opponentMask), matchups.size()) == null) {
+                    matchups.add(canonicalMatchup(mask, opponentMask));
+                }
+            }
+        }
+        double[] equities = new double[matchups.size()];
+        IntStream.range(0, equities.length).parallel()
+            .forEach(matchup -> equities[matchup] = calculate(matchups.get(matchup)));
+
+        short[] tables = new short[TABLE_LENGTH];
+        for (int combo = 0; combo < COMBO_COUNT; combo++) {
+            for (int opponentCombo = 0; opponentCombo < COMBO_COUNT; opponentCombo++) {
+                long mask = comboMask(combo);
+                long opponentMask = comboMask(opponentCombo);
+                if ((mask & opponentMask) == 0) {
+                    Integer matchup = matchupIndexes.get(canonicalMatchup(mask, opponentMask));
+                    double equity = matchup != null
+                        ? equities[matchup] : 1 - equities[matchupIndexes.get(canonicalMatchup(opponentMask, mask))];
+                    tables[combo * COMBO_COUNT + opponentCombo] = (short) Math.round(equity * SCALE);
+                }
+            }
+        }
+        fillClassTable(tables);
+        return tables;
+    }
+
+    /**
+     * Averages the combo table at the start of {@code tables} into the class table that follows it.
+     */
+    static void fillClassTable(short[] tables) {
+        long[] totals = new long[CLASS_COUNT * CLASS_COUNT];
+        int[] matchups = new int[CLASS_COUNT * CLASS_COUNT];
+        for (int combo = 0; combo < COMBO_COUNT; combo++) {
+            for (int opponentCombo = 0; opponentCombo < COMBO_COUNT; opponentCombo++) {
+                if ((comboMask(combo) & comboMask(opponentCombo)) == 0) {
+                    int cell = COMBO_CLASSES[combo] * CLASS_COUNT + COMBO_CLASSES[opponentCombo];
+                    totals[cell] += tables[combo * COMBO_COUNT + opponentCombo];
+                    matchups[cell]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < totals.length; cell++) {
+            tables[COMBO_COUNT * COMBO_COUNT + cell] = (short) Math.round((double) totals[cell] / matchups[cell]);
+        }
+    }
+
+    private static double calculate(int canonicalMatchup) {
+        int combo = canonicalMatchup / COMBO_COUNT;
+        int opponentCombo = canonicalMatchup % COMBO_COUNT;
+        List<List<Card>> holeCards = List.of(comboCards(combo), comboCards(opponentCombo));
+        return new ExhaustiveEquity(EquityGame.HOLD_EM).calculate(holeCards, List.of()).getEquity(0);
+    }
+
+    /**
+     * Relabels the suits of both hands together and returns the pair of combos they become, so every matchup that
+     * only differs by suits has the same key.
+     */
+    private static int canonicalMatchup(long mask, long opponentMask) {
+        int permutation = SuitCanonicalizer.permutation(mask, opponentMask);
+        return comboIndex(SuitCanonicalizer.apply(mask, permutation)) * COMBO_COUNT
+            + comboIndex(SuitCanonicalizer.apply(opponentMask, permutation));
+    }
+
+    private static List<Integer> combosOf(int handClass) {
+        List<Integer> combos = new ArrayList<>();
+        for (int combo = 0; combo < COMBO_COUNT; combo++) {
+            if (COMBO_CLASSES[combo] == handClass) {
+                combos.add(combo);
+            }
+        }
+        return combos;
+    }
+
+    private static List<Card> comboCards(int combo) {
+        return List.of(CardCodes.toCard(COMBO_LOW_CARDS[combo]), CardCodes.toCard(COMBO_HIGH_CARDS[combo]));
+    }
+
+    private static long comboMask(int combo) {
+        return 1L << COMBO_LOW_CARDS[combo] | 1L << COMBO_HIGH_CARDS[combo];
+    }
+}
@@ -0,0 +1,84 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.AnalyzerHelpers.STRAIGHT_LENGTH;
+import static model.hand.analyzer.FiveCardEvaluator.COUNT_BITS;
+import static model.hand.analyzer.FiveCardEvaluator.SUIT_COUNT;
+import static model.hand.analyzer.FiveCardEvaluator.rankCount;
+
+import java.util.List;
+import model.card.Card;
+
+/**
+ * Scores the best five card hand that can be made from any five or more cards in a single pass, without enumerating
+ * the five card combinations.
+ *
+ * <p>
+ * The cards are folded into a rank histogram and one rank mask per suit. The histogram gives the best non flush hand
+ * and any suit holding five or more cards gives the best flush, the stronger of the two is the hand's score.
+ * </p>
+ */
+final class SevenCardEvaluator {
+
+    static final int SUIT_MASK_BITS = 16;
+
+    private SevenCardEvaluator() {
+    }
+
+    static int evaluate(List<Card> cards) {
+        long rankCounts = 0;
+        long suitMasks = 0;
+        int suitCounts = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            int code = CardCodes.of(cards.get(i));
+            int rank = code / SUIT_COUNT;
+            int suit = code % SUIT_COUNT;
+            rankCounts += rankCount(rank);
+            suitMasks |= 1L << (suit * SUIT_MASK_BITS + rank);
+            suitCounts += 1 << suit * COUNT_BITS;
+        }
+        return score(rankCounts, suitMasks, suitCounts);
+    }
+
+    static int evaluate(int[] cards, int length) {
+        return evaluate(cards, 0, length);
+    }
+
+    static int evaluate(int[] cards, int offset, int length) {
+        long rankCounts = 0;
+        long suitMasks = 0;
+        int suitCounts = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int rank = cards[i] / SUIT_COUNT;
+            int suit = cards[i] % SUIT_COUNT;
+            rankCounts += rankCount(rank);
+            suitMasks |= 1L << (suit * SUIT_MASK_BITS + rank);
+            suitCounts += 1 << suit * COUNT_BITS;
+        }
+        return score(rankCounts, suitMasks, suitCounts);
+    }
+
+    /**
+     * Scores cards that have already been folded into a rank histogram and per suit rank masks.
+     *
+     * @param rankCounts number of cards of each rank, {@link FiveCardEvaluator#COUNT_BITS} bits per rank index
+     * @param suitMasks  ranks held in each suit, {@link #SUIT_MASK_BITS} bits per suit
+     * @param suitCounts number of cards of each suit, {@link FiveCardEvaluator#COUNT_BITS} bits per suit
+     * @return the packed strength of the best five card hand
+     */
+    static int score(long rankCounts, long suitMasks, int suitCounts) {
+        return withFlushes(FiveCardEvaluator.rankScore(rankCounts), suitMasks, suitCounts);
+    }
+
+    /**
+     * Raises a non flush score to the best flush of any suit holding five or more cards.
+     */
+    static int withFlushes(int score, long suitMasks, int suitCounts) {
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            if ((suitCounts >>> suit * COUNT_BITS & ((1 << COUNT_BITS) - 1)) >= STRAIGHT_LENGTH) {
+                int flushMask = (int) (suitMasks >>> suit * SUIT_MASK_BITS) & ((1 << SUIT_MASK_BITS) - 1);
+                score = Math.max(score, FiveCardEvaluator.flushScore(flushMask));
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,47 @@
+package model.hand.analyzer;
+
+import java.util.List;
+import model.card.Card;
+import model.hand.representation.HandRank;
+
+/**
+ * Analyzer for short deck Hold'em, whose scores use {@link HandRank#getShortDeckStrength()} as their category and are
+ * only comparable with other short deck scores.
+ */
+public class ShortDeckAnalyzer extends HandAnalyzer {
+
+    public ShortDeckAnalyzer(List<Card> fullHand) {
+        super(fullHand);
+    }
+
+    /**
+     * Scores the best five card hand in {@code fullHand}.
+     *
+     * @param fullHand the player's hole cards and the community cards, all from the short deck
+     * @return the packed {@link HandStrength} of the best hand, with short deck categories
+     */
+    public static int evaluate(List<Card> fullHand) {
+        return ShortDeckEvaluator.evaluate(fullHand);
+    }
+
+    /**
+     * Scores the best five card hand in the first {@code length} cards of {@code cards}.
+     *
+     * @param cards  {@link CardCodes} of the player's hole cards and the community cards
+     * @param length number of cards to evaluate
+     * @return the packed {@link HandStrength} of the best hand, with short deck categories
+     */
+    public static int evaluate(int[] cards, int length) {
+        return ShortDeckEvaluator.evaluate(cards, length);
+    }
+
+    @Override
+    public HandRank getTopRank() {
+        return HandStrength.shortDeckHandRank(getScore());
+    }
+
+    @Override
+    final int analyze() {
+        return evaluate(fullHand);
+    }
+}
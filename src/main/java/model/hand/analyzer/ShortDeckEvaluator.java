@@ -0,0 +1,217 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.AnalyzerHelpers.PAIR_FREQUENCY;
+import static model.hand.analyzer.AnalyzerHelpers.QUADS_FREQUENCY;
+import static model.hand.analyzer.AnalyzerHelpers.STRAIGHT_LENGTH;
+import static model.hand.analyzer.AnalyzerHelpers.TRIPS_FREQUENCY;
+import static model.hand.analyzer.FiveCardEvaluator.COUNT_BITS;
+import static model.hand.analyzer.FiveCardEvaluator.SUIT_COUNT;
+import static model.hand.analyzer.SevenCardEvaluator.SUIT_MASK_BITS;
+
+import java.util.List;
+import model.card.Card;
+import model.hand.representation.HandRank;
+
+/**
+ * Table driven evaluator for the 36 card short deck, sixes through aces, scoring categories by
+ * {@link HandRank#getShortDeckStrength()} so a flush beats a full house and three of a kind beats a straight.
+ *
+ * <p>
+ * With only nine ranks every rank histogram of up to {@link #MAX_CARDS} cards fits in memory, so the best non flush
+ * hand of every histogram is precomputed into a table indexed by the histogram written in base five. Flushes are looked
+ * up by the nine bit rank mask of the flush suit. An ace plays low in the A-6-7-8-9 wheel and is stored as
+ * {@link Card.Rank#ONE}.
+ * </p>
+ */
+final class ShortDeckEvaluator {
+
+    static final int MAX_CARDS = 7;
+    private static final int LOWEST_STRENGTH = Card.Rank.SIX.getStrength();
+    private static final int RANK_COUNT = Card.Rank.ACE.getStrength() - LOWEST_STRENGTH + 1;
+    private static final int FIRST_RANK_INDEX = LOWEST_STRENGTH - Card.Rank.TWO.getStrength();
+    private static final int COUNT_BASE = QUADS_FREQUENCY + 1;
+    private static final int WHEEL = 1 << (RANK_COUNT - 1) | (1 << (STRAIGHT_LENGTH - 1)) - 1;
+    private static final int WHEEL_TOP = Card.Rank.NINE.getStrength();
+
+    /**
+     * Amount a card of each rank adds to the base five histogram key.
+     */
+    private static final int[] RANK_KEYS = new int[RANK_COUNT];
+    private static final int[] STRAIGHT_TOP = new int[1 << RANK_COUNT];
+    private static final int[] FLUSHES = new int[1 << RANK_COUNT];
+    private static final int[] RANK_SCORES;
+
+    static {
+        int key = 1;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            RANK_KEYS[rank] = key;
+            key *= COUNT_BASE;
+        }
+        RANK_SCORES = new int[key];
+        for (int mask = 0; mask < STRAIGHT_TOP.length; mask++) {
+            STRAIGHT_TOP[mask] = findStraightTop(mask);
+            if (Integer.bitCount(mask) >= STRAIGHT_LENGTH) {
+                FLUSHES[mask] = flushScore(mask);
+            }
+        }
+        fillRankScores(0, 0, 0, new int[RANK_COUNT]);
+    }
+
+    private ShortDeckEvaluator() {
+    }
+
+    static int evaluate(List<Card> cards) {
+        return evaluate(CardCodes.of(cards), cards.size());
+    }
+
+    /**
+     * Scores the best five card hand in the first {@code length} cards of {@code cards}.
+     *
+     * @param cards  {@link CardCodes} of cards from the short deck
+     * @param length number of cards to evaluate, from five up to {@link #MAX_CARDS}
+     * @return the packed strength of the best hand, with short deck categories
+     */
+    static int evaluate(int[] cards, int length) {
+        if (length < STRAIGHT_LENGTH || length > MAX_CARDS) {
+            throw new IllegalArgumentException("Short deck hands are made from 5 to " + MAX_CARDS + " cards.");
+        }
+        int key = 0;
+        long suitMasks = 0;
+        int suitCounts = 0;
+        for (int i = 0; i < length; i++) {
+            int rank = cards[i] / SUIT_COUNT - FIRST_RANK_INDEX;
+            int suit = cards[i] % SUIT_COUNT;
+            key += RANK_KEYS[rank];
+            suitMasks |= 1L << (suit * SUIT_MASK_BITS + rank);
+            suitCounts += 1 << suit * COUNT_BITS;
+        }
+        int score = RANK_SCORES[key];
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            if ((suitCounts >>> suit * COUNT_BITS & ((1 << COUNT_BITS) - 1)) >= STRAIGHT_LENGTH) {
+                int flushMask = (int) (suitMasks >>> suit * SUIT_MASK_BITS) & ((1 << SUIT_MASK_BITS) - 1);
+                score = Math.max(score, FLUSHES[flushMask]);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Fills the score of every histogram of five to {@link #MAX_CARDS} cards, one rank at a time.
+     */
+    private static void fillRankScores(int rank, int key, int cards, int[] counts) {
+        if (rank == RANK_COUNT) {
+            if (cards >= STRAIGHT_LENGTH) {
+                RANK_SCORES[key] = rankScore(counts);
+            }
+            return;
+        }
+        for (int count = 0; count <= QUADS_FREQUENCY && cards + count <= MAX_CARDS; count++) {
+            counts[rank] = count;
+            fillRankScores(rank + 1, key + count * RANK_KEYS[rank], cards + count, counts);
+        }
+        counts[rank] = 0;
+    }
+
+    private static int rankScore(int[] counts) {
+        int present = 0;
+        int pairs = 0;
+        int trips = 0;
+        int quads = 0;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            int bit = counts[rank] > 0 ? 1 << rank : 0;
+            present |= bit;
+            pairs |= counts[rank] >= PAIR_FREQUENCY ? bit : 0;
+            trips |= counts[rank] >= TRIPS_FREQUENCY ? bit : 0;
+            quads |= counts[rank] >= QUADS_FREQUENCY ? bit : 0;
+        }
+
+        if (quads != 0) {
+            int quad = highest(quads);
+            int kicker = highest(present & ~bit(quad));
+            return pack(HandRank.FOUR_OF_A_KIND, quad, quad, quad, quad, kicker);
+        }
+        if (trips != 0) {
+            int trip = highest(trips);
+            int pairMask = pairs & ~bit(trip);
+            if (pairMask != 0) {
+                int pair = highest(pairMask);
+                return pack(HandRank.FULL_HOUSE, trip, trip, trip, pair, pair);
+            }
+            int kickers = present & ~bit(trip);
+            int k1 = highest(kickers);
+            int k2 = highest(kickers & ~bit(k1));
+            return pack(HandRank.THREE_OF_A_KIND, trip, trip, trip, k1, k2);
+        }
+        if (STRAIGHT_TOP[present] != 0) {
+            return straightScore(HandRank.STRAIGHT, STRAIGHT_TOP[present]);
+        }
+        if (Integer.bitCount(pairs) >= 2) {
+            int high = highest(pairs);
+            int low = highest(pairs & ~bit(high));
+            int kicker = highest(present & ~bit(high) & ~bit(low));
+            return pack(HandRank.TWO_PAIR, high, high, low, low, kicker);
+        }
+        if (pairs != 0) {
+            int pair = highest(pairs);
+            int kickers = present & ~bit(pair);
+            int k1 = highest(kickers);
+            kickers &= ~bit(k1);
+            int k2 = highest(kickers);
+            int k3 = highest(kickers & ~bit(k2));
+            return pack(HandRank.PAIR, pair, pair, k1, k2, k3);
+        }
+        return highCardScore(HandRank.HIGH_CARD, present);
+    }
+
+    private static int flushScore(int rankMask) {
+        int straightTop = STRAIGHT_TOP[rankMask];
+        if (straightTop == Card.Rank.ACE.getStrength()) {
+            return straightScore(HandRank.ROYAL_FLUSH, straightTop);
+        } else if (straightTop != 0) {
+            return straightScore(HandRank.STRAIGHT_FLUSH, straightTop);
+        }
+        return highCardScore(HandRank.FLUSH, rankMask);
+    }
+
+    private static int straightScore(HandRank handRank, int top) {
+        int low = top == WHEEL_TOP ? Card.Rank.ONE.getStrength() : top - 4;
+        return pack(handRank, top, top - 1, top - 2, top - 3, low);
+    }
+
+    private static int highCardScore(HandRank handRank, int rankMask) {
+        int k1 = highest(rankMask);
+        rankMask &= ~bit(k1);
+        int k2 = highest(rankMask);
+        rankMask &= ~bit(k2);
+        int k3 = highest(rankMask);
+        rankMask &= ~bit(k3);
+        int k4 = highest(rankMask);
+        int k5 = highest(rankMask & ~bit(k4));
+        return pack(handRank, k1, k2, k3, k4, k5);
+    }
+
+    private static int pack(HandRank handRank, int r1, int r2, int r3, int r4, int r5) {
+        return HandStrength.pack(handRank.getShortDeckStrength(), r1, r2, r3, r4, r5);
+    }
+
+    /**
+     * Returns the strength of the highest rank in {@code rankMask}.
+     */
+    private static int highest(int rankMask) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(rankMask) + LOWEST_STRENGTH;
+    }
+
+    private static int bit(int strength) {
+        return 1 << (strength - LOWEST_STRENGTH);
+    }
+
+    private static int findStraightTop(int rankMask) {
+        for (int low = RANK_COUNT - STRAIGHT_LENGTH; low >= 0; low--) {
+            int straight = ((1 << STRAIGHT_LENGTH) - 1) << low;
+            if ((rankMask & straight) == straight) {
+                return low + STRAIGHT_LENGTH - 1 + LOWEST_STRENGTH;
+            }
+        }
+        return (rankMask & WHEEL) == WHEEL ? WHEEL_TOP : 0;
+    }
+}
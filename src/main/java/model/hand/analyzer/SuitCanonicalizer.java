@@ -0,0 +1,156 @@
+package model.hand.analyzer;
+
+/**
+ * Maps sets of cards to a canonical representative of every set that only differs from them by relabeling suits, so
+ * caches and precomputed tables keyed by the canonical form hold one entry where they would otherwise hold up to 24.
+ *
+ * <p>
+ * Sets of cards are {@link CardCodes#mask(java.util.List)} masks. The canonical form gives suit 0 the suit holding the
+ * highest rank mask, suit 1 the next and so on, ties keep their original order. The relabeling used is returned as a
+ * permutation packed two bits per suit, so it can be applied to other cards, such as a board dealt after the key was
+ * made, or inverted to map canonical results back to the original suits. No call allocates.
+ * </p>
+ */
+public final class SuitCanonicalizer {
+
+    private static final int SUIT_BITS = 2;
+    private static final int RANK_MASK_BITS = 13;
+    private static final long SUIT_LANES = 0x1111111111111L;
+
+    private SuitCanonicalizer() {
+    }
+
+    /**
+     * Returns the canonical form of a set of cards.
+     *
+     * @param cardMask the cards
+     * @return the same cards with their suits relabeled canonically
+     */
+    public static long canonicalMask(long cardMask) {
+        return apply(cardMask, permutation(cardMask));
+    }
+
+    /**
+     * Returns the relabeling that makes {@code cardMask} canonical.
+     *
+     * @param cardMask the cards
+     * @return the packed permutation, the new suit of suit {@code s} is in bits {@code 2s} and {@code 2s + 1}
+     */
+    public static int permutation(long cardMask) {
+        return permutation(cardMask, 0);
+    }
+
+    /**
+     * Returns the relabeling that makes two sets of cards, such as hole cards and a board, canonical together. Suits
+     * are ordered by their ranks in {@code primaryMask} first and by their ranks in {@code secondaryMask} on ties.
+     *
+     * @param primaryMask   the cards compared first
+     * @param secondaryMask the cards that break ties
+     * @return the packed permutation to {@link #apply(long, int)} to both sets
+     */
+    public static int permutation(long primaryMask, long secondaryMask) {
+        int e0 = sortKey(primaryMask, secondaryMask, 0);
+        int e1 = sortKey(primaryMask, secondaryMask, 1);
+        int e2 = sortKey(primaryMask, secondaryMask, 2);
+        int e3 = sortKey(primaryMask, secondaryMask, 3);
+        int swap;
+        if (e0 < e1) {
+            swap = e0;
+            e0 = e1;
+            e1 = swap;
+        }
+        if (e2 < e3) {
+            swap = e2;
+            e2 = e3;
+            e3 = swap;
+        }
+        if (e0 < e2) {
+            swap = e0;
+            e0 = e2;
+            e2 = swap;
+        }
+        if (e1 < e3) {
+            swap = e1;
+            e1 = e3;
+            e3 = swap;
+        }
+        if (e1 < e2) {
+            swap = e1;
+            e1 = e2;
+            e2 = swap;
+        }
+        return 1 << SUIT_BITS * originalSuit(e1) | 2 << SUIT_BITS * originalSuit(e2)
+            | 3 << SUIT_BITS * originalSuit(e3);
+    }
+
+    /**
+     * Relabels the suits of a set of cards.
+     *
+     * @param cardMask    the cards
+     * @param permutation packed permutation from {@link #permutation(long)}
+     * @return the relabeled cards
+     */
+    public static long apply(long cardMask, int permutation) {
+        long relabeled = 0;
+        for (int suit = 0; suit < CardCodes.SUIT_COUNT; suit++) {
+            relabeled |= spread(ranks(cardMask, suit)) << targetSuit(permutation, suit);
+        }
+        return relabeled;
+    }
+
+    /**
+     * Relabels the suit of a single {@link CardCodes} card.
+     */
+    public static int apply(int code, int permutation) {
+        return code - code % CardCodes.SUIT_COUNT + targetSuit(permutation, code % CardCodes.SUIT_COUNT);
+    }
+
+    /**
+     * Returns the permutation that undoes {@code permutation}.
+     */
+    public static int invert(int permutation) {
+        int inverse = 0;
+        for (int suit = 0; suit < CardCodes.SUIT_COUNT; suit++) {
+            inverse |= suit << SUIT_BITS * targetSuit(permutation, suit);
+        }
+        return inverse;
+    }
+
+    private static int targetSuit(int permutation, int suit) {
+        return permutation >>> SUIT_BITS * suit & CardCodes.SUIT_COUNT - 1;
+    }
+
+    /**
+     * Packs the ranks of a suit in both sets, and the suit itself so that ties sort lower suits first.
+     */
+    private static int sortKey(long primaryMask, long secondaryMask, int suit) {
+        int key = ranks(primaryMask, suit) << RANK_MASK_BITS | ranks(secondaryMask, suit);
+        return key << SUIT_BITS | CardCodes.SUIT_COUNT - 1 - suit;
+    }
+
+    private static int originalSuit(int sortKey) {
+        return CardCodes.SUIT_COUNT - 1 - (sortKey & CardCodes.SUIT_COUNT - 1);
+    }
+
+    /**
+     * Gathers the 13 rank bits of one suit, every fourth bit of the card mask, into a contiguous rank mask.
+     */
+    private static int ranks(long cardMask, int suit) {
+        long bits = cardMask >>> suit & SUIT_LANES;
+        bits = (bits | bits >>> 3) & 0x0303030303030303L;
+        bits = (bits | bits >>> 6) & 0x000F000F000F000FL;
+        bits = (bits | bits >>> 12) & 0x000000FF000000FFL;
+        return (int) (bits | bits >>> 24) & (1 << RANK_MASK_BITS) - 1;
+    }
+
+    /**
+     * Spreads a rank mask back out to every fourth bit, the card mask of those ranks in suit 0.
+     */
+    private static long spread(int ranks) {
+        long bits = ranks;
+        bits = (bits | bits << 24) & 0x000000FF000000FFL;
+        bits = (bits | bits << 12) & 0x000F000F000F000FL;
+        bits = (bits | bits << 6) & 0x0303030303030303L;
+        return (bits | bits << 3) & SUIT_LANES;
+    }
+}
@@ -0,0 +1,94 @@
+package model.hand.analyzer;
+
+import static model.hand.analyzer.SevenCardEvaluator.SUIT_MASK_BITS;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The vector lane half of {@link BatchEvaluator}, only loaded when the {@code jdk.incubator.vector} module is present.
+ *
+ * <p>
+ * Each lane holds one hand. Card {@code i} of every hand in a block is loaded into one vector and split into rank and
+ * suit. The lanes keep the masks of ranks seen at least once, twice, three and four times, which a card updates by
+ * promoting its rank bit one level, along with their suit counts and four per suit rank masks. Once every card is
+ * folded in, each lane only needs the straight, pair and flush table lookups of {@link FiveCardEvaluator}.
+ * </p>
+ */
+final class VectorBatchEvaluator {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int SUIT_BITS = 2;
+    private static final int SUIT_COUNT = 1 << SUIT_BITS;
+
+    private VectorBatchEvaluator() {
+    }
+
+    /**
+     * Scores whole blocks of {@link #LANES} hands.
+     *
+     * @return the number of hands scored, the rest are left to the scalar path
+     */
+    static int evaluate(int[] cards, int cardsPerHand, int[] scores) {
+        if (LANES < 2) {
+            return 0;
+        }
+        int[] laneCards = new int[LANES];
+        int[] rankMasks = new int[4 * LANES];
+        int[] suitCounts = new int[LANES];
+        int[] suitMasks = new int[SUIT_COUNT * LANES];
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        int blocks = scores.length / LANES;
+        for (int block = 0; block < blocks; block++) {
+            IntVector present = IntVector.zero(SPECIES);
+            IntVector pairs = IntVector.zero(SPECIES);
+            IntVector trips = IntVector.zero(SPECIES);
+            IntVector quads = IntVector.zero(SPECIES);
+            IntVector suitCount = IntVector.zero(SPECIES);
+            IntVector hearts = IntVector.zero(SPECIES);
+            IntVector diamonds = IntVector.zero(SPECIES);
+            IntVector clubs = IntVector.zero(SPECIES);
+            IntVector spades = IntVector.zero(SPECIES);
+            int blockOffset = block * LANES * cardsPerHand;
+            for (int card = 0; card < cardsPerHand; card++) {
+                for (int lane = 0; lane < LANES; lane++) {
+                    laneCards[lane] = cards[blockOffset + lane * cardsPerHand + card];
+                }
+                IntVector codes = IntVector.fromArray(SPECIES, laneCards, 0);
+                IntVector suit = codes.and(SUIT_COUNT - 1);
+                IntVector rank = codes.lanewise(VectorOperators.LSHR, SUIT_BITS);
+                IntVector rankBit = one.lanewise(VectorOperators.LSHL, rank);
+                quads = quads.or(trips.and(rankBit));
+                trips = trips.or(pairs.and(rankBit));
+                pairs = pairs.or(present.and(rankBit));
+                present = present.or(rankBit);
+                suitCount = suitCount.add(one.lanewise(VectorOperators.LSHL, suit.lanewise(VectorOperators.LSHL, 2)));
+                hearts = hearts.lanewise(VectorOperators.OR, rankBit, suit.eq(0));
+                diamonds = diamonds.lanewise(VectorOperators.OR, rankBit, suit.eq(1));
+                clubs = clubs.lanewise(VectorOperators.OR, rankBit, suit.eq(2));
+                spades = spades.lanewise(VectorOperators.OR, rankBit, suit.eq(3));
+            }
+            present.intoArray(rankMasks, 0);
+            pairs.intoArray(rankMasks, LANES);
+            trips.intoArray(rankMasks, 2 * LANES);
+            quads.intoArray(rankMasks, 3 * LANES);
+            suitCount.intoArray(suitCounts, 0);
+            hearts.intoArray(suitMasks, 0);
+            diamonds.intoArray(suitMasks, LANES);
+            clubs.intoArray(suitMasks, 2 * LANES);
+            spades.intoArray(suitMasks, 3 * LANES);
+            for (int lane = 0; lane < LANES; lane++) {
+                int score = FiveCardEvaluator.rankScore(rankMasks[lane], rankMasks[LANES + lane],
+                    rankMasks[2 * LANES + lane], rankMasks[3 * LANES + lane]);
+                long masks = 0;
+                for (int suit = 0; suit < SUIT_COUNT; suit++) {
+                    masks |= (long) suitMasks[suit * LANES + lane] << suit * SUIT_MASK_BITS;
+                }
+                scores[block * LANES + lane] = SevenCardEvaluator.withFlushes(score, masks, suitCounts[lane]);
+            }
+        }
+        return blocks * LANES;
+    }
+}
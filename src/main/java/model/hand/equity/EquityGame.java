@@ -0,0 +1,62 @@
+package model.hand.equity;
+
+import model.card.Card;
+
+/**
+ * The games equity can be calculated for, and how each of them makes its best hand at showdown.
+ */
+public enum EquityGame {
+
+    /**
+     * Best five of the hole cards and community cards, as scored by the {@code HoldEmAnalyzer}.
+     */
+    HOLD_EM(false, Card.Rank.TWO, false),
+
+    /**
+     * Scored like Hold'em, with the player's three hole cards all in play.
+     */
+    PINEAPPLE(false, Card.Rank.TWO, false),
+
+    /**
+     * Exactly two hole cards and three community cards, as scored by the {@code OmahaAnalyzer}.
+     */
+    OMAHA(true, Card.Rank.TWO, false),
+
+    /**
+     * Omaha with the pot split between the best high hand and the best eight or better low, if any player makes one.
+     */
+    OMAHA_HI_LO(true, Card.Rank.TWO, true),
+
+    /**
+     * Hold'em dealt from the 36 card deck of sixes through aces, as scored by the {@code ShortDeckAnalyzer}.
+     */
+    SHORT_DECK(false, Card.Rank.SIX, false);
+
+    private final boolean usesTwoHoleCards;
+    private final Card.Rank lowestRank;
+    private final boolean splitsLow;
+
+    EquityGame(boolean usesTwoHoleCards, Card.Rank lowestRank, boolean splitsLow) {
+        this.usesTwoHoleCards = usesTwoHoleCards;
+        this.lowestRank = lowestRank;
+        this.splitsLow = splitsLow;
+    }
+
+    public boolean usesTwoHoleCards() {
+        return usesTwoHoleCards;
+    }
+
+    /**
+     * Returns the lowest rank in the game's deck.
+     */
+    public Card.Rank getLowestRank() {
+        return lowestRank;
+    }
+
+    /**
+     * Returns whether half of the pot goes to the best qualifying low hand.
+     */
+    public boolean splitsLow() {
+        return splitsLow;
+    }
+}
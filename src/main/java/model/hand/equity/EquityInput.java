@@ -0,0 +1,68 @@
+package model.hand.equity;
+
+import java.util.List;
+import model.card.Card;
+import model.hand.analyzer.CardCodes;
+
+/**
+ * The known cards of an equity calculation as {@link CardCodes}, along with the cards still left in the deck.
+ */
+final class EquityInput {
+
+    static final int BOARD_LENGTH = 5;
+
+    final int[][] holeCards;
+    final int[] board;
+    final int[] deck;
+
+    EquityInput(EquityGame game, List<List<Card>> holeCards, List<Card> board) {
+        if (holeCards.size() < 2) {
+            throw new IllegalArgumentException("Equity needs at least two players.");
+        }
+        if (board.size() > BOARD_LENGTH) {
+            throw new IllegalArgumentException("The board holds at most " + BOARD_LENGTH + " cards.");
+        }
+        long usedCards = 0;
+        this.holeCards = new int[holeCards.size()][];
+        for (int player = 0; player < holeCards.size(); player++) {
+            List<Card> hole = holeCards.get(player);
+            if (game.usesTwoHoleCards() && hole.size() < 2) {
+                throw new IllegalArgumentException("Every player needs at least two hole cards.");
+            }
+            this.holeCards[player] = CardCodes.of(hole);
+            usedCards = addCards(usedCards, this.holeCards[player]);
+        }
+        this.board = CardCodes.of(board);
+        usedCards = addCards(usedCards, this.board);
+        int lowestCode = CardCodes.of(Card.of(game.getLowestRank(), Card.Suit.HEARTS));
+        if (Long.numberOfTrailingZeros(usedCards) < lowestCode) {
+            throw new IllegalArgumentException("Card not in the deck: "
+                + CardCodes.toCard(Long.numberOfTrailingZeros(usedCards)));
+        }
+        deck = new int[CardCodes.CARD_COUNT - lowestCode - Long.bitCount(usedCards)];
+        int index = 0;
+        for (int code = lowestCode; code < CardCodes.CARD_COUNT; code++) {
+            if ((usedCards & 1L << code) == 0) {
+                deck[index++] = code;
+            }
+        }
+    }
+
+    int getNumPlayers() {
+        return holeCards.length;
+    }
+
+    int getMissingBoardCards() {
+        return BOARD_LENGTH - board.length;
+    }
+
+    private static long addCards(long usedCards, int[] cards) {
+        for (int card : cards) {
+            if ((usedCards & 1L << card) != 0) {
+                throw new IllegalArgumentException("Card dealt twice: " + CardCodes.toCard(card));
+            }
+            usedCards |= 1L << card;
+        }
+        return usedCards;
+    }
+}
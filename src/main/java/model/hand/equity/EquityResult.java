@@ -0,0 +1,69 @@
+package model.hand.equity;
+
+import java.util.Arrays;
+
+/**
+ * Each player's chance of winning, tying and their expected share of the pot, players are in the order their hole
+ * cards were given.
+ */
+public final class EquityResult {
+
+    private final double[] wins;
+    private final double[] ties;
+    private final double[] equities;
+    private final long boards;
+    private final double standardError;
+
+    EquityResult(double[] wins, double[] ties, double[] equities, long boards, double standardError) {
+        this.wins = wins;
+        this.ties = ties;
+        this.equities = equities;
+        this.boards = boards;
+        this.standardError = standardError;
+    }
+
+    public int getNumPlayers() {
+        return equities.length;
+    }
+
+    /**
+     * Returns the fraction of boards the player wins outright.
+     */
+    public double getWin(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Returns the fraction of boards the player splits the pot with at least one other player.
+     */
+    public double getTie(int player) {
+        return ties[player];
+    }
+
+    /**
+     * Returns the player's expected share of the pot, outright wins plus their part of every split pot.
+     */
+    public double getEquity(int player) {
+        return equities[player];
+    }
+
+    /**
+     * Returns the number of boards the result was calculated from.
+     */
+    public long getBoards() {
+        return boards;
+    }
+
+    /**
+     * Returns the largest standard error of any player's equity, 0 when every board was enumerated.
+     */
+    public double getStandardError() {
+        return standardError;
+    }
+
+    @Override
+    public String toString() {
+        return "Equities: " + Arrays.toString(equities) + ", Wins: " + Arrays.toString(wins) + ", Ties: "
+            + Arrays.toString(ties) + ", Boards: " + boards;
+    }
+}
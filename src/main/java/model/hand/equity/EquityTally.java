@@ -0,0 +1,109 @@
+package model.hand.equity;
+
+/**
+ * Running win, tie and pot share totals for each player over a number of boards.
+ */
+final class EquityTally {
+
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] shares;
+    private final double[] squaredShares;
+    private long boards;
+
+    EquityTally(int players) {
+        wins = new long[players];
+        ties = new long[players];
+        shares = new double[players];
+        squaredShares = new double[players];
+    }
+
+    /**
+     * Adds one board to the tally. The pot goes to the best high hands, or is split in half between them and the best
+     * low hands when anyone has a low. Only a player taking the whole pot wins, any smaller part of it is a tie.
+     *
+     * @param scores every player's score on the board, high score in the upper 32 bits and low score, 0 for no low, in
+     *               the lower 32 bits
+     * @param weight number of boards this board stands for
+     */
+    void add(long[] scores, long weight) {
+        int topHigh = 0;
+        int highWinners = 0;
+        int topLow = 0;
+        int lowWinners = 0;
+        for (long score : scores) {
+            int high = (int) (score >>> Integer.SIZE);
+            int low = (int) score;
+            if (high > topHigh) {
+                topHigh = high;
+                highWinners = 1;
+            } else if (high == topHigh) {
+                highWinners++;
+            }
+            if (low > topLow) {
+                topLow = low;
+                lowWinners = 1;
+            } else if (low != 0 && low == topLow) {
+                lowWinners++;
+            }
+        }
+        double highPot = topLow == 0 ? 1 : 0.5;
+        for (int player = 0; player < scores.length; player++) {
+            double share = 0;
+            if ((int) (scores[player] >>> Integer.SIZE) == topHigh) {
+                share += highPot / highWinners;
+            }
+            if (topLow != 0 && (int) scores[player] == topLow) {
+                share += (1 - highPot) / lowWinners;
+            }
+            if (share == 1) {
+                wins[player] += weight;
+            } else if (share > 0) {
+                ties[player] += weight;
+            }
+            shares[player] += share * weight;
+            squaredShares[player] += share * share * weight;
+        }
+        boards += weight;
+    }
+
+    void merge(EquityTally other) {
+        for (int player = 0; player < wins.length; player++) {
+            wins[player] += other.wins[player];
+            ties[player] += other.ties[player];
+            shares[player] += other.shares[player];
+            squaredShares[player] += other.squaredShares[player];
+        }
+        boards += other.boards;
+    }
+
+    long getBoards() {
+        return boards;
+    }
+
+    /**
+     * Returns the largest standard error of any player's equity estimate, treating the boards as random samples.
+     */
+    double maxStandardError() {
+        double maxError = 0;
+        for (int player = 0; player < wins.length; player++) {
+            double mean = shares[player] / boards;
+            double variance = Math.max(0, squaredShares[player] / boards - mean * mean);
+            maxError = Math.max(maxError, Math.sqrt(variance / boards));
+        }
+        return maxError;
+    }
+
+    EquityResult toResult(boolean exact) {
+        int players = wins.length;
+        double[] winFractions = new double[players];
+        double[] tieFractions = new double[players];
+        double[] equities = new double[players];
+        for (int player = 0; player < players; player++) {
+            winFractions[player] = (double) wins[player] / boards;
+            tieFractions[player] = (double) ties[player] / boards;
+            equities[player] = shares[player] / boards;
+        }
+        return new EquityResult(winFractions, tieFractions, equities, boards, exact ? 0 : maxStandardError());
+    }
+}
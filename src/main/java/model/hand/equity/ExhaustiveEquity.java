@@ -0,0 +1,183 @@
+package model.hand.equity;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import model.card.Card;
+import model.hand.analyzer.CardCodes;
+
+/**
+ * Calculates exact equities by scoring every player on every way the board can be completed from the unseen cards.
+ *
+ * <p>
+ * Boards are enumerated in lexicographic order of deck positions and split across a {@link ForkJoinPool} by the first
+ * card dealt, small enumerations such as turn to river run on the calling thread. Suits that none of the known cards
+ * use are interchangeable, so only one board of every such suit relabeling is scored and it is weighted by the number
+ * of boards it stands for.
+ * </p>
+ */
+public class ExhaustiveEquity {
+
+    private static final int SEQUENTIAL_BOARDS = 4096;
+    private static final int RANK_COUNT = 13;
+
+    private final EquityGame game;
+    private final ForkJoinPool pool;
+
+    public ExhaustiveEquity(EquityGame game) {
+        this(game, ForkJoinPool.commonPool());
+    }
+
+    public ExhaustiveEquity(EquityGame game, ForkJoinPool pool) {
+        this.game = game;
+        this.pool = pool;
+    }
+
+    /**
+     * Calculates the exact equity of every player.
+     *
+     * @param holeCards each player's hole cards
+     * @param board     the community cards dealt so far
+     * @return the exact equities, in the order of {@code holeCards}
+     */
+    public EquityResult calculate(List<List<Card>> holeCards, List<Card> board) {
+        EquityInput input = new EquityInput(game, holeCards, board);
+        int missing = input.getMissingBoardCards();
+        int firstCards = input.deck.length - missing + 1;
+        EnumerationTask task = new EnumerationTask(input, freeSuits(input), 0, missing == 0 ? 1 : firstCards);
+        EquityTally tally = countBoards(input.deck.length, missing) <= SEQUENTIAL_BOARDS
+            ? task.compute() : pool.invoke(task);
+        return tally.toResult(true);
+    }
+
+    /**
+     * Returns a mask of the suits that do not appear in any hole card or on the board.
+     */
+    private static int freeSuits(EquityInput input) {
+        int usedSuits = 0;
+        for (int[] hole : input.holeCards) {
+            for (int card : hole) {
+                usedSuits |= 1 << card % CardCodes.SUIT_COUNT;
+            }
+        }
+        for (int card : input.board) {
+            usedSuits |= 1 << card % CardCodes.SUIT_COUNT;
+        }
+        return ~usedSuits & ((1 << CardCodes.SUIT_COUNT) - 1);
+    }
+
+    private static long countBoards(int deckSize, int missing) {
+        long count = 1;
+        for (int i = 0; i < missing; i++) {
+            count = count * (deckSize - i) / (i + 1);
+        }
+        return count;
+    }
+
+    private final class EnumerationTask extends RecursiveTask<EquityTally> {
+
+        private final EquityInput input;
+        private final int freeSuits;
+        private final int fromFirst;
+        private final int toFirst;
+
+        EnumerationTask(EquityInput input, int freeSuits, int fromFirst, int toFirst) {
+            this.input = input;
+            this.freeSuits = freeSuits;
+            this.fromFirst = fromFirst;
+            this.toFirst = toFirst;
+        }
+
+        @Override
+        protected EquityTally compute() {
+            if (toFirst - fromFirst <= 1 || getPool() == null) {
+                return enumerate();
+            }
+            int middle = (fromFirst + toFirst) >>> 1;
+            EnumerationTask left = new EnumerationTask(input, freeSuits, fromFirst, middle);
+            left.fork();
+            EquityTally tally = new EnumerationTask(input, freeSuits, middle, toFirst).compute();
+            tally.merge(left.join());
+            return tally;
+        }
+
+        private EquityTally enumerate() {
+            EquityTally tally = new EquityTally(input.getNumPlayers());
+            RunoutScorer scorer = new RunoutScorer(game, input.holeCards);
+            int known = input.board.length;
+            int missing = input.getMissingBoardCards();
+            int deckSize = input.deck.length;
+            int[] board = new int[EquityInput.BOARD_LENGTH];
+            long[] scores = new long[input.getNumPlayers()];
+            int[] indexes = new int[missing];
+            int[] suitRanks = new int[CardCodes.SUIT_COUNT];
+            System.arraycopy(input.board, 0, board, 0, known);
+            if (missing == 0) {
+                scorer.score(board, scores);
+                tally.add(scores, 1);
+                return tally;
+            }
+            for (int first = fromFirst; first < toFirst; first++) {
+                for (int i = 0; i < missing; i++) {
+                    indexes[i] = first + i;
+                }
+                while (true) {
+                    for (int i = 0; i < missing; i++) {
+                        board[known + i] = input.deck[indexes[i]];
+                    }
+                    long weight = boardWeight(board, known, suitRanks);
+                    if (weight > 0) {
+                        scorer.score(board, scores);
+                        tally.add(scores, weight);
+                    }
+                    int i = missing - 1;
+                    while (i >= 1 && indexes[i] == deckSize - missing + i) {
+                        i--;
+                    }
+                    if (i < 1) {
+                        break;
+                    }
+                    indexes[i]++;
+                    for (int j = i + 1; j < missing; j++) {
+                        indexes[j] = indexes[j - 1] + 1;
+                    }
+                }
+            }
+            return tally;
+        }
+
+        /**
+         * Returns how many boards the dealt cards stand for once interchangeable suits are relabeled, or 0 when the
+         * board is not the canonical one of its relabelings. A board is canonical when the rank masks the dealt cards
+         * hold in the free suits never increase from one free suit to the next.
+         */
+        private long boardWeight(int[] board, int known, int[] suitRanks) {
+            if (Integer.bitCount(freeSuits) < 2) {
+                return 1;
+            }
+            for (int suit = 0; suit < CardCodes.SUIT_COUNT; suit++) {
+                suitRanks[suit] = 0;
+            }
+            for (int i = known; i < board.length; i++) {
+                suitRanks[board[i] % CardCodes.SUIT_COUNT] |= 1 << board[i] / CardCodes.SUIT_COUNT;
+            }
+            long weight = 1;
+            int previous = 1 << RANK_COUNT;
+            int position = 0;
+            int run = 0;
+            for (int suit = 0; suit < CardCodes.SUIT_COUNT; suit++) {
+                if ((freeSuits & 1 << suit) == 0) {
+                    continue;
+                }
+                if (suitRanks[suit] > previous) {
+                    return 0;
+                }
+                run = suitRanks[suit] == previous ? run + 1 : 1;
+                position++;
+                weight = weight * position / run;
+                previous = suitRanks[suit];
+            }
+            return weight;
+        }
+    }
+}
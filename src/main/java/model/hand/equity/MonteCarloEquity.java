@@ -0,0 +1,146 @@
+package model.hand.equity;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import model.card.Card;
+
+/**
+ * Estimates each player's equity by dealing random completions of the board and scoring every player on them.
+ *
+ * <p>
+ * Boards are dealt in rounds spread over a {@link ForkJoinPool}, each task drawing from its own
+ * {@link SplittableRandom} split off the calculator's generator. After every round the estimate stops once the 95%
+ * confidence interval of every player's equity is within the target error, or once the sample budget is spent.
+ * </p>
+ */
+public class MonteCarloEquity {
+
+    private static final int SAMPLES_PER_TASK = 4096;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final double CONFIDENCE_Z = 1.96;
+
+    private final EquityGame game;
+    private final long maxSamples;
+    private final double targetError;
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a calculator running on the common pool with a randomly seeded generator.
+     *
+     * @param game        the game whose showdown rules are used
+     * @param maxSamples  the most boards dealt for one estimate
+     * @param targetError the half width of the confidence interval to stop at, 0 to always deal every sample
+     */
+    public MonteCarloEquity(EquityGame game, long maxSamples, double targetError) {
+        this(game, maxSamples, targetError, ForkJoinPool.commonPool(), new SplittableRandom());
+    }
+
+    /**
+     * Creates a calculator, a seeded {@code random} makes the estimates repeatable.
+     *
+     * @param game        the game whose showdown rules are used
+     * @param maxSamples  the most boards dealt for one estimate
+     * @param targetError the half width of the confidence interval to stop at, 0 to always deal every sample
+     * @param pool        the pool the boards are dealt on
+     * @param random      the generator every task's generator is split from
+     * @throws IllegalArgumentException if {@code maxSamples} is not positive or {@code targetError} is negative
+     */
+    public MonteCarloEquity(
+        EquityGame game,
+        long maxSamples,
+        double targetError,
+        ForkJoinPool pool,
+        SplittableRandom random
+    ) {
+        if (maxSamples <= 0) {
+            throw new IllegalArgumentException("Max samples must be positive: " + maxSamples);
+        }
+        if (!(targetError >= 0)) {
+            throw new IllegalArgumentException("Target error must not be negative: " + targetError);
+        }
+        this.game = game;
+        this.maxSamples = maxSamples;
+        this.targetError = targetError;
+        this.pool = pool;
+        this.random = random;
+    }
+
+    /**
+     * Estimates the equity of every player.
+     *
+     * @param holeCards each player's hole cards
+     * @param board     the community cards dealt so far
+     * @return the estimated equities, in the order of {@code holeCards}
+     */
+    public EquityResult estimate(List<List<Card>> holeCards, List<Card> board) {
+        EquityInput input = new EquityInput(game, holeCards, board);
+        SplittableRandom estimateRandom;
+        synchronized (random) {
+            estimateRandom = random.split();
+        }
+        if (input.getMissingBoardCards() == 0) {
+            return new SampleTask(input, 1, estimateRandom).compute().toResult(true);
+        }
+        EquityTally tally = new EquityTally(input.getNumPlayers());
+        long samplesPerRound = (long) SAMPLES_PER_TASK * TASKS_PER_THREAD * pool.getParallelism();
+        while (tally.getBoards() < maxSamples) {
+            long samples = Math.min(samplesPerRound, maxSamples - tally.getBoards());
+            tally.merge(pool.invoke(new SampleTask(input, samples, estimateRandom.split())));
+            if (CONFIDENCE_Z * tally.maxStandardError() <= targetError) {
+                break;
+            }
+        }
+        return tally.toResult(false);
+    }
+
+    private final class SampleTask extends RecursiveTask<EquityTally> {
+
+        private final EquityInput input;
+        private final long samples;
+        private final SplittableRandom random;
+
+        SampleTask(EquityInput input, long samples, SplittableRandom random) {
+            this.input = input;
+            this.samples = samples;
+            this.random = random;
+        }
+
+        @Override
+        protected EquityTally compute() {
+            if (samples <= SAMPLES_PER_TASK) {
+                return sample();
+            }
+            long half = samples / 2;
+            SampleTask left = new SampleTask(input, half, random.split());
+            left.fork();
+            EquityTally tally = new SampleTask(input, samples - half, random).compute();
+            tally.merge(left.join());
+            return tally;
+        }
+
+        private EquityTally sample() {
+            EquityTally tally = new EquityTally(input.getNumPlayers());
+            RunoutScorer scorer = new RunoutScorer(game, input.holeCards);
+            int[] deck = input.deck.clone();
+            int[] board = new int[EquityInput.BOARD_LENGTH];
+            long[] scores = new long[input.getNumPlayers()];
+            int known = input.board.length;
+            System.arraycopy(input.board, 0, board, 0, known);
+            for (long sample = 0; sample < samples; sample++) {
+                for (int i = 0; i < input.getMissingBoardCards(); i++) {
+                    int pick = i + random.nextInt(deck.length - i);
+                    int card = deck[pick];
+                    deck[pick] = deck[i];
+                    deck[i] = card;
+                    board[known + i] = card;
+                }
+                scorer.score(board, scores);
+                tally.add(scores, 1);
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package model.hand.equity;
+
+import model.hand.analyzer.HoldEmAnalyzer;
+import model.hand.analyzer.OmahaAnalyzer;
+import model.hand.analyzer.OmahaBoard;
+import model.hand.analyzer.ShortDeckAnalyzer;
+
+/**
+ * Scores every player's hand against complete boards, the high score in the upper 32 bits of each player's score and
+ * the low score, 0 in games without a low half, in the lower 32 bits. Each worker owns its own scorer, which reuses
+ * its buffers between boards and must not be shared between threads.
+ */
+final class RunoutScorer {
+
+    private final EquityGame game;
+    private final int[][] holeCards;
+    private final int[] cards;
+
+    RunoutScorer(EquityGame game, int[][] holeCards) {
+        this.game = game;
+        this.holeCards = holeCards;
+        int maxHoleCards = 0;
+        for (int[] hole : holeCards) {
+            maxHoleCards = Math.max(maxHoleCards, hole.length);
+        }
+        cards = new int[maxHoleCards + EquityInput.BOARD_LENGTH];
+    }
+
+    void score(int[] board, long[] scores) {
+        if (game.usesTwoHoleCards()) {
+            OmahaBoard omahaBoard = new OmahaBoard(board);
+            for (int player = 0; player < holeCards.length; player++) {
+                scores[player] = game.splitsLow() ? OmahaAnalyzer.evaluateHiLo(holeCards[player], omahaBoard)
+                    : (long) OmahaAnalyzer.evaluate(holeCards[player], omahaBoard) << Integer.SIZE;
+            }
+            return;
+        }
+        for (int player = 0; player < holeCards.length; player++) {
+            int[] hole = holeCards[player];
+            System.arraycopy(hole, 0, cards, 0, hole.length);
+            System.arraycopy(board, 0, cards, hole.length, board.length);
+            int score = game == EquityGame.SHORT_DECK
+                ? ShortDeckAnalyzer.evaluate(cards, hole.length + board.length)
+                : HoldEmAnalyzer.evaluate(cards, hole.length + board.length);
+            scores[player] = (long) score << Integer.SIZE;
+        }
+    }
+}
@@ -3,13 +3,16 @@ package model.hand.representation;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Stack;
+import java.util.Map;
 import java.util.stream.IntStream;
 import model.card.Card;
 import model.card.Deck;
-import model.hand.analyzer.HandAnalyzer;
-import model.hand.analyzer.HoldEmAnalyzer;
+import model.hand.analyzer.HandState;
+import model.hand.equity.EquityGame;
+import model.hand.equity.EquityResult;
+import model.hand.equity.ExhaustiveEquity;
 import model.option.Option;
 import model.player.Player;
 
@@ -24,7 +27,12 @@ import model.player.Player;
  */
 public abstract class Hand {
 
-    final Stack<Card> deck;
+    static final int BOARD_LENGTH = 5;
+    private static final int CENTS_PER_UNIT = 100;
+    static final String FLUSH_DRAW = "Flush Draw";
+    static final String STRAIGHT_DRAW = "Straight Draw";
+
+    final Deck deck;
     final ArrayList<Card> communityCards;
     private final double smallBlindAmount;
     private final double bigBlindAmount;
@@ -42,13 +50,25 @@ public abstract class Hand {
      */
     private final List<Pot> closedPots;
 
+    private final Map<Player, HandState> handStates = new HashMap<>();
+
     Hand(
         double smallBlindAmount,
         double bigBlindAmount,
         double anteAmount,
         ArrayList<Player> players
     ) {
-        deck = new Deck();
+        this(smallBlindAmount, bigBlindAmount, anteAmount, players, new Deck());
+    }
+
+    Hand(
+        double smallBlindAmount,
+        double bigBlindAmount,
+        double anteAmount,
+        ArrayList<Player> players,
+        Deck deck
+    ) {
+        this.deck = deck;
         communityCards = new ArrayList<>();
         openPots = new ArrayList<>();
         closedPots = new ArrayList<>();
@@ -87,17 +107,71 @@ public abstract class Hand {
 
     public final void dealFlop() {
         deck.pop();
-        IntStream.range(0, 3).forEach(iteration -> communityCards.add(deck.pop()));
+        IntStream.range(0, 3).forEach(iteration -> addCommunityCard(deck.pop()));
     }
 
     public final void dealTurn() {
         deck.pop();
-        communityCards.add(deck.pop());
+        addCommunityCard(deck.pop());
     }
 
     public final void dealRiver() {
         deck.pop();
-        communityCards.add(deck.pop());
+        addCommunityCard(deck.pop());
+    }
+
+    private void addCommunityCard(Card card) {
+        communityCards.add(card);
+        handStates.values().forEach(state -> state.add(card));
+    }
+
+    /**
+     * Returns the evaluation state of the player's hole cards and the community cards, kept up to date as each
+     * community card is dealt.
+     *
+     * @param player player in the hand
+     * @return the player's hand state
+     */
+    public HandState getHandState(Player player) {
+        HandState state = handStates.get(player);
+        if (state == null || state.size() != player.getHand().size() + communityCards.size()) {
+            state = new HandState(player.getHand());
+            communityCards.forEach(state::add);
+            handStates.put(player, state);
+        }
+        return state;
+    }
+
+    /**
+     * Returns the category of the best hand the player can make so far, or null if they hold no cards.
+     */
+    public HandRank getCurrentHandRank(Player player) {
+        return player.getHand().isEmpty() ? null : getHandState(player).getHandRank();
+    }
+
+    /**
+     * Returns the draws still open to the player, as names shown to the client.
+     */
+    public List<String> getDraws(Player player) {
+        List<String> draws = new ArrayList<>();
+        if (player.getHand().isEmpty() || communityCards.size() >= BOARD_LENGTH) {
+            return draws;
+        }
+        HandState state = getHandState(player);
+        if (state.hasFlushDraw()) {
+            draws.add(FLUSH_DRAW);
+        }
+        if (hasStraightDraw(state)) {
+            draws.add(STRAIGHT_DRAW);
+        }
+        return draws;
+    }
+
+    /**
+     * Returns whether one more card would complete a straight in this game, the player holding none yet.
+     */
+    boolean hasStraightDraw(HandState state) {
+        return state.hasStraightDraw();
     }
 
     private void chargeAmount(double amount, List<Player> playersToCharge) {
@@ -286,17 +360,22 @@ public abstract class Hand {
         }
     }
 
+    /**
+     * Pays every pot out of a single showdown, each player still in the hand is evaluated at most once and their
+     * score is reused for every pot they are eligible for.
+     */
     public void payWinners() {
-        openPots.forEach(this::payPotWinner);
-        closedPots.forEach(this::payPotWinner);
+        Map<Player, Long> showdownScores = new HashMap<>();
+        openPots.forEach(pot -> payPotWinner(pot, showdownScores));
+        closedPots.forEach(pot -> payPotWinner(pot, showdownScores));
     }
 
-    private void payPotWinner(Pot pot) {
+    private void payPotWinner(Pot pot, Map<Player, Long> showdownScores) {
         int numLeft = (int) pot.getPlayers().stream().filter(player -> !player.hasFolded()).count();
         if (numLeft == 1) {
             payOnlyRemainingPlayer(pot);
         } else {
-            findAndPayPotWinners(pot);
+            findAndPayPotWinners(pot, showdownScores);
         }
     }
 
@@ -311,54 +390,92 @@ public abstract class Hand {
         }
     }
 
-    private void findAndPayPotWinners(Pot pot) {
-        List<HandAnalyzer> analyzers = new ArrayList<>();
-        players.forEach(player -> createAnalyzers(player, analyzers));
-        List<Integer> potWinnerIndexes = new ArrayList<>();
-        IntStream.range(0, pot.getPlayers().size()).filter(i -> analyzers.get(i) != null)
-            .forEach(i -> {
-                if (potWinnerIndexes.isEmpty()) {
-                    potWinnerIndexes.add(i);
-                } else {
-                    updatePotWinnerIndexes(analyzers, potWinnerIndexes, i);
-                }
-            });
-        DecimalFormat df = new DecimalFormat(".##");
-        double winnings = Double.parseDouble(df.format(pot.getAmount() / potWinnerIndexes.size()));
-        potWinnerIndexes.forEach(i -> pot.getPlayers().get(i).updateBalance(winnings));
+    private void findAndPayPotWinners(Pot pot, Map<Player, Long> showdownScores) {
+        List<Player> highWinners = new ArrayList<>();
+        List<Player> lowWinners = new ArrayList<>();
+        int topScore = 0;
+        int topLow = 0;
+        for (Player player : pot.getPlayers()) {
+            if (player.hasFolded() || player.isSittingOut()) {
+                continue;
+            }
+            long showdownScore = showdownScores.computeIfAbsent(player, this::showdownScore);
+            int score = (int) (showdownScore >>> Integer.SIZE);
+            int low = (int) showdownScore;
+            if (score > topScore) {
+                topScore = score;
+                highWinners.clear();
+            }
+            if (score == topScore) {
+                highWinners.add(player);
+            }
+            if (low > topLow) {
+                topLow = low;
+                lowWinners.clear();
+            }
+            if (low != 0 && low == topLow) {
+                lowWinners.add(player);
+            }
+        }
+        // The high half takes the odd cent when a pot is split between high and low.
+        long cents = Math.round(pot.getAmount() * CENTS_PER_UNIT);
+        if (lowWinners.isEmpty()) {
+            payShares(cents, highWinners);
+        } else {
+            payShares(cents - cents / 2, highWinners);
+            payShares(cents / 2, lowWinners);
+        }
     }
 
-    private void createAnalyzers(Player player, List<HandAnalyzer> analyzers) {
-        if (!player.hasFolded() && !player.isSittingOut()) {
-            addAnalyzer(player, analyzers);
-        } else {
-            analyzers.add(null);
+    /**
+     * Splits an amount evenly between winners, any odd cents left over go one each to the winners first in seat
+     * order.
+     */
+    private static void payShares(long cents, List<Player> winners) {
+        long share = cents / winners.size();
+        long oddCents = cents % winners.size();
+        for (int i = 0; i < winners.size(); i++) {
+            long winnings = share + (i < oddCents ? 1 : 0);
+            winners.get(i).updateBalance((double) winnings / CENTS_PER_UNIT);
         }
     }
 
-    private void addAnalyzer(Player player, List<HandAnalyzer> analyzers) {
-        List<Card> hand = new ArrayList<>();
-        hand.addAll(player.getHand());
-        hand.addAll(getCommunityCards());
-        analyzers.add(createAnalyzer(hand));
+    /**
+     * Scores a player for the showdown, with the high score in the upper 32 bits and the low score in the lower 32
+     * bits. Games without a low half leave the low score at 0.
+     */
+    long showdownScore(Player player) {
+        return (long) scorePlayer(player) << Integer.SIZE;
     }
 
-    HandAnalyzer createAnalyzer(List<Card> cards) {
-        return new HoldEmAnalyzer(cards);
+    /**
+     * Scores a player's best hand made from their hole cards and the community cards.
+     *
+     * @param player player in the showdown
+     * @return the packed strength of the best hand, a higher score is a stronger hand
+     */
+    int scorePlayer(Player player) {
+        return getHandState(player).getScore();
     }
 
-    private void updatePotWinnerIndexes(List<HandAnalyzer> handAnalyzers,
-        List<Integer> potWinnerIndexes, int index
-    ) {
-        HandAnalyzer newAnalyzer = handAnalyzers.get(index);
-        HandAnalyzer currentWinnerAnalyzer = handAnalyzers.get(potWinnerIndexes.get(0));
-        if (HandAnalyzer.HAND_ANALYZER_COMPARATOR.compare(newAnalyzer, currentWinnerAnalyzer) > 0) {
-            potWinnerIndexes.clear();
-            potWinnerIndexes.add(index);
-        } else if (HandAnalyzer.HAND_ANALYZER_COMPARATOR.compare(newAnalyzer, currentWinnerAnalyzer)
-            == 0) {
-            potWinnerIndexes.add(index);
+    /**
+     * Calculates the exact equity of every player still in the hand by scoring every way the rest of the board can be
+     * dealt from the cards nobody has seen, burned cards included.
+     *
+     * @return the equities of the players that have not folded, in seat order
+     */
+    public EquityResult calculateEquity() {
+        List<List<Card>> holeCards = new ArrayList<>();
+        for (Player player : players) {
+            if (!player.hasFolded() && !player.isSittingOut()) {
+                holeCards.add(player.getHand());
+            }
         }
+        return new ExhaustiveEquity(getEquityGame()).calculate(holeCards, communityCards);
+    }
+
+    EquityGame getEquityGame() {
+        return EquityGame.HOLD_EM;
     }
 
     public List<Option> generateOptions(Player player) {
@@ -3,26 +3,95 @@ package model.hand.representation;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
-import model.card.Card;
-import model.hand.analyzer.HandAnalyzer;
+import model.hand.analyzer.HandStrength;
 import model.hand.analyzer.OmahaAnalyzer;
+import model.hand.analyzer.OmahaBoard;
+import model.hand.equity.EquityGame;
 import model.player.Player;
 
+/**
+ * Pot limit Omaha, each player plays exactly two of their hole cards with three community cards. The standard game
+ * deals four hole cards, five and six card Omaha deal more.
+ */
 public class OmahaHand extends Hand {
 
+    private static final int PLAYER_HAND_LENGTH = 4;
+    private static final int COMMUNITY_CARDS_USED = 3;
+
+    /**
+     * Cards the deck must still hold once every player has been dealt, the burn cards and the community cards.
+     */
+    private static final int BOARD_CARDS_DEALT = 8;
+
+    private final int playerHandLength;
+
+    /**
+     * Community cards of the last showdown, shared by every player evaluated against the same board.
+     */
+    private OmahaBoard board;
+
     public OmahaHand(double smallBlind, double bigBlind, double ante, ArrayList<Player> players) {
+        this(smallBlind, bigBlind, ante, players, PLAYER_HAND_LENGTH);
+    }
+
+    /**
+     * Creates an Omaha hand dealing {@code playerHandLength} hole cards to every player.
+     *
+     * @param playerHandLength number of hole cards, 4 for Omaha, 5 or 6 for the bigger variants
+     */
+    public OmahaHand(
+        double smallBlind,
+        double bigBlind,
+        double ante,
+        ArrayList<Player> players,
+        int playerHandLength
+    ) {
         super(smallBlind, bigBlind, ante, players);
+        if (players.size() * playerHandLength + BOARD_CARDS_DEALT > deck.size()) {
+            throw new IllegalArgumentException(
+                "Not enough cards to deal " + playerHandLength + " cards to " + players.size() + " players.");
+        }
+        this.playerHandLength = playerHandLength;
     }
 
     @Override
     public final void dealInitialHand() {
-        IntStream.range(0, 4).forEach(iteration ->
+        IntStream.range(0, playerHandLength).forEach(iteration ->
             players.forEach(player -> player.addCard(deck.pop()))
         );
     }
 
     @Override
-    public HandAnalyzer createAnalyzer(List<Card> cards) {
-        return new OmahaAnalyzer(cards);
+    EquityGame getEquityGame() {
+        return EquityGame.OMAHA;
+    }
+
+    @Override
+    int scorePlayer(Player player) {
+        return OmahaAnalyzer.evaluate(player.getHand().subList(0, playerHandLength), getBoard());
+    }
+
+    OmahaBoard getBoard() {
+        if (board == null || board.size() != communityCards.size()) {
+            board = new OmahaBoard(communityCards);
+        }
+        return board;
+    }
+
+    /**
+     * Omaha hands must play exactly two hole cards and three community cards, so the category is only known once
+     * the flop is out and the incremental state of all the player's cards does not apply.
+     */
+    @Override
+    public HandRank getCurrentHandRank(Player player) {
+        if (player.getHand().isEmpty() || communityCards.size() < COMMUNITY_CARDS_USED) {
+            return null;
+        }
+        return HandStrength.handRank(scorePlayer(player));
+    }
+
+    @Override
+    public List<String> getDraws(Player player) {
+        return new ArrayList<>();
     }
 }
@@ -0,0 +1,27 @@
+package model.hand.representation;
+
+import java.util.ArrayList;
+import model.hand.analyzer.CardCodes;
+import model.hand.analyzer.OmahaAnalyzer;
+import model.hand.equity.EquityGame;
+import model.player.Player;
+
+/**
+ * Omaha Hi-Lo, eight or better, where each pot is split between the best high hand and the best qualifying low.
+ */
+public class OmahaHiLoHand extends OmahaHand {
+
+    public OmahaHiLoHand(double smallBlind, double bigBlind, double ante, ArrayList<Player> players) {
+        super(smallBlind, bigBlind, ante, players);
+    }
+
+    @Override
+    long showdownScore(Player player) {
+        return OmahaAnalyzer.evaluateHiLo(CardCodes.of(player.getHand()), getBoard());
+    }
+
+    @Override
+    EquityGame getEquityGame() {
+        return EquityGame.OMAHA_HI_LO;
+    }
+}
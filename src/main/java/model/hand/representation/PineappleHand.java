@@ -2,6 +2,7 @@ package model.hand.representation;
 
 import java.util.ArrayList;
 import java.util.stream.IntStream;
+import model.hand.equity.EquityGame;
 import model.player.Player;
 
 public class PineappleHand extends Hand {
@@ -21,4 +22,9 @@ public class PineappleHand extends Hand {
             players.forEach(player -> player.addCard(deck.pop()))
         );
     }
+
+    @Override
+    EquityGame getEquityGame() {
+        return EquityGame.PINEAPPLE;
+    }
 }
@@ -0,0 +1,63 @@
+package model.hand.representation;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+import model.card.Card;
+import model.card.Deck;
+import model.hand.analyzer.CardCodes;
+import model.hand.analyzer.EvaluationCache;
+import model.hand.analyzer.HandState;
+import model.hand.analyzer.HandStrength;
+import model.hand.analyzer.ShortDeckAnalyzer;
+import model.hand.analyzer.SuitCanonicalizer;
+import model.hand.equity.EquityGame;
+import model.player.Player;
+
+/**
+ * Hold'em dealt from the 36 card short deck, sixes through aces, where a flush beats a full house, three of a kind
+ * beats a straight and A-6-7-8-9 is the lowest straight.
+ */
+public class ShortDeckHand extends Hand {
+
+    public ShortDeckHand(
+        double smallBlindAmount,
+        double bigBlindAmount,
+        double anteAmount,
+        ArrayList<Player> players
+    ) {
+        super(smallBlindAmount, bigBlindAmount, anteAmount, players, new Deck(Card.Rank.SIX));
+    }
+
+    @Override
+    public final void dealInitialHand() {
+        IntStream.range(0, 2).forEach(iteration ->
+            players.forEach(player -> player.addCard(deck.pop()))
+        );
+    }
+
+    @Override
+    EquityGame getEquityGame() {
+        return EquityGame.SHORT_DECK;
+    }
+
+    @Override
+    int scorePlayer(Player player) {
+        ArrayList<Card> cards = new ArrayList<>(player.getHand());
+        cards.addAll(communityCards);
+        long key = SuitCanonicalizer.canonicalMask(CardCodes.mask(cards));
+        return EvaluationCache.SHORT_DECK.get(key, () -> ShortDeckAnalyzer.evaluate(cards));
+    }
+
+    @Override
+    boolean hasStraightDraw(HandState state) {
+        return state.hasShortDeckStraightDraw();
+    }
+
+    @Override
+    public HandRank getCurrentHandRank(Player player) {
+        if (player.getHand().isEmpty() || player.getHand().size() + communityCards.size() < BOARD_LENGTH) {
+            return super.getCurrentHandRank(player);
+        }
+        return HandStrength.shortDeckHandRank(scorePlayer(player));
+    }
+}
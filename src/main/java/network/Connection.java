@@ -0,0 +1,180 @@
+package network;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One client's non blocking socket, owned by a single {@link EventLoop}.
+ *
+ * <p>
+ * Reads land in a per connection buffer and are split into frames by the connection's {@link FrameCodec}. Messages may
+ * be sent from any thread, they are queued and written by the event loop as the socket accepts them, so a slow client
+ * never blocks the sender.
+ * </p>
+ *
+ * <p>
+ * The outbound queue is bounded in bytes. A client that stops reading long enough to fill it is closed rather than
+ * left to hold an ever growing backlog of updates it will never catch up on.
+ * </p>
+ */
+public final class Connection {
+
+    static final int READ_BUFFER_BYTES = 2048;
+    static final int DEFAULT_MAX_QUEUED_BYTES = 1 << 20;
+
+    private final SocketChannel channel;
+    private final EventLoop loop;
+    private final FrameCodec codec;
+    private final ConnectionListener listener;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+    private final int maxQueuedBytes;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private SelectionKey key;
+    private volatile Object attachment;
+
+    Connection(SocketChannel channel, EventLoop loop, FrameCodec codec, ConnectionListener listener,
+        int maxQueuedBytes) {
+        this.channel = channel;
+        this.loop = loop;
+        this.codec = codec;
+        this.listener = listener;
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    /**
+     * Queues {@code message} to be written as one frame and returns at once. Messages sent after the connection
+     * closes are dropped, and a message that would overfill the outbound queue closes the connection instead.
+     *
+     * @return whether the message was queued
+     */
+    public boolean send(String message) {
+        if (closed.get()) {
+            return false;
+        }
+        ByteBuffer frame = codec.encode(message);
+        if (queuedBytes.addAndGet(frame.remaining()) > maxQueuedBytes) {
+            queuedBytes.addAndGet(-frame.remaining());
+            close();
+            return false;
+        }
+        writeQueue.add(frame);
+        if (flushScheduled.compareAndSet(false, true)) {
+            loop.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the socket on the event loop and notifies the listener once.
+     */
+    public void close() {
+        loop.execute(this::closeNow);
+    }
+
+    public boolean isOpen() {
+        return !closed.get();
+    }
+
+    /**
+     * Returns the number of bytes sent but not yet written to the socket.
+     */
+    public int getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    /**
+     * Returns the object the listener associated with this connection, such as the player it belongs to.
+     */
+    public Object getAttachment() {
+        return attachment;
+    }
+
+    public void setAttachment(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    public SocketAddress getRemoteAddress() {
+        return channel.socket().getRemoteSocketAddress();
+    }
+
+    void register(SelectionKey key) {
+        this.key = key;
+        listener.onOpen(this);
+    }
+
+    void handleRead() {
+        try {
+            int read = channel.read(readBuffer);
+            if (read == -1) {
+                closeNow();
+                return;
+            }
+            readBuffer.flip();
+            try {
+                codec.decode(readBuffer, frame -> listener.onFrame(this, frame));
+            } finally {
+                readBuffer.compact();
+            }
+        } catch (IOException e) {
+            closeNow();
+        }
+    }
+
+    void handleWrite() {
+        flush();
+    }
+
+    /**
+     * Writes queued frames until the queue is empty or the socket's send buffer is full, in which case the loop is
+     * asked to call back once the socket is writable again.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        if (closed.get()) {
+            return;
+        }
+        try {
+            ByteBuffer frame;
+            while ((frame = writeQueue.peek()) != null) {
+                channel.write(frame);
+                if (frame.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+                writeQueue.poll();
+                queuedBytes.addAndGet(-frame.limit());
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } catch (IOException | CancelledKeyException e) {
+            closeNow();
+        }
+    }
+
+    void closeNow() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        writeQueue.clear();
+        queuedBytes.set(0);
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // The connection is being discarded, there is nothing left to do with the error.
+        }
+        listener.onClose(this);
+    }
+}
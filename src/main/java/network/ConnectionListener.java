@@ -0,0 +1,16 @@
+package network;
+
+/**
+ * Receives the events of every connection of a {@link ConnectionServer}. Methods are called on the connection's event
+ * loop thread, so they must not block; work that waits belongs on another thread.
+ */
+public interface ConnectionListener {
+
+    default void onOpen(Connection connection) {
+    }
+
+    void onFrame(Connection connection, String frame);
+
+    default void onClose(Connection connection) {
+    }
+}
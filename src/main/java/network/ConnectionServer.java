@@ -0,0 +1,97 @@
+package network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.function.Supplier;
+
+/**
+ * Accepts socket connections and spreads them over a small, fixed pool of {@link EventLoop}s, so the number of threads
+ * does not grow with the number of connected clients.
+ */
+public final class ConnectionServer implements AutoCloseable {
+
+    private final EventLoop[] loops;
+    private final Supplier<FrameCodec> codecs;
+    private final ConnectionListener listener;
+    private final int maxQueuedBytes;
+    private ServerSocketChannel serverChannel;
+    private int nextLoop;
+
+    /**
+     * Creates a server, nothing is opened until {@link #bind(int)}.
+     *
+     * @param loopCount number of event loop threads
+     * @param codecs    creates the codec of each new connection
+     * @param listener  receives the events of every connection
+     */
+    public ConnectionServer(int loopCount, Supplier<FrameCodec> codecs, ConnectionListener listener) {
+        this(loopCount, Connection.DEFAULT_MAX_QUEUED_BYTES, codecs, listener);
+    }
+
+    /**
+     * Creates a server, nothing is opened until {@link #bind(int)}.
+     *
+     * @param loopCount      number of event loop threads
+     * @param maxQueuedBytes bytes a connection may have waiting to be written before it is closed as too slow
+     * @param codecs         creates the codec of each new connection
+     * @param listener       receives the events of every connection
+     */
+    public ConnectionServer(int loopCount, int maxQueuedBytes, Supplier<FrameCodec> codecs,
+        ConnectionListener listener) {
+        this.loops = new EventLoop[loopCount];
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.codecs = codecs;
+        this.listener = listener;
+    }
+
+    /**
+     * Opens the listening socket and starts the event loops.
+     *
+     * @param port port to listen on, 0 picks a free port
+     * @throws IOException if the port cannot be opened
+     */
+    public void bind(int port) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new EventLoop("event-loop-" + i);
+            loops[i].start();
+        }
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Accepts connections on the calling thread until the server is closed, handing each to the next event loop.
+     *
+     * @throws IOException if accepting fails for any reason other than the server being closed
+     */
+    public void serve() throws IOException {
+        while (serverChannel.isOpen()) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            }
+            loops[nextLoop].register(channel, codecs.get(), listener, maxQueuedBytes);
+            nextLoop = (nextLoop + 1) % loops.length;
+        }
+    }
+
+    /**
+     * Stops accepting and closes every connection.
+     */
+    @Override
+    public void close() throws IOException {
+        serverChannel.close();
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+}
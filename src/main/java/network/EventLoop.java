@@ -0,0 +1,131 @@
+package network;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread running one {@link Selector} over many connections, handling their reads and writes and any tasks handed to
+ * it by other threads.
+ */
+final class EventLoop implements Runnable {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    EventLoop(String name) throws IOException {
+        selector = Selector.open();
+        thread = new Thread(this, name);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Runs {@code task} on the loop's thread, waking the selector if it is waiting.
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Hands a newly accepted channel to this loop.
+     */
+    void register(SocketChannel channel, FrameCodec codec, ConnectionListener listener, int maxQueuedBytes) {
+        Connection connection = new Connection(channel, this, codec, listener, maxQueuedBytes);
+        execute(() -> {
+            try {
+                channel.configureBlocking(false);
+                connection.register(channel.register(selector, SelectionKey.OP_READ, connection));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not register connection.", e);
+                closeQuietly(connection);
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    handle(key);
+                }
+                selector.selectedKeys().clear();
+                runTasks();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            running = false;
+        } finally {
+            runTasks();
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly((Connection) key.attachment());
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // The loop is stopping, there is nothing left to do with the error.
+            }
+        }
+    }
+
+    /**
+     * Handles one ready connection. A failure, whether from the socket, the codec or the listener, closes only that
+     * connection rather than ending the loop and every other connection on it.
+     */
+    private void handle(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                connection.handleRead();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.handleWrite();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Closing connection to " + connection.getRemoteAddress() + " after it failed.", e);
+            closeQuietly(connection);
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Closes a connection, logging rather than throwing if its listener fails.
+     */
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.closeNow();
+        } catch (RuntimeException e) {
+            log.error("Connection listener failed while closing.", e);
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Event loop task failed.", e);
+            }
+        }
+    }
+}
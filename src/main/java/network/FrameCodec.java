@@ -0,0 +1,25 @@
+package network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Splits the bytes read from a connection into messages and turns outgoing messages back into bytes.
+ */
+public interface FrameCodec {
+
+    /**
+     * Passes every complete frame in {@code input} to {@code frames}, leaving a trailing partial frame unread.
+     *
+     * @param input  bytes read from the connection, ready to be read
+     * @param frames receives each decoded message in order
+     * @throws IOException if the bytes cannot be a valid frame, such as a frame longer than the read buffer
+     */
+    void decode(ByteBuffer input, Consumer<String> frames) throws IOException;
+
+    /**
+     * Returns the bytes that send {@code message} as one frame, ready to be written.
+     */
+    ByteBuffer encode(String message);
+}
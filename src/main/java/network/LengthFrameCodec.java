@@ -0,0 +1,35 @@
+package network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * UTF-8 messages preceded by their length in bytes as a four byte big endian int, for clients that send messages
+ * which may contain newlines.
+ */
+public final class LengthFrameCodec implements FrameCodec {
+
+    @Override
+    public void decode(ByteBuffer input, Consumer<String> frames) throws IOException {
+        while (input.remaining() >= Integer.BYTES) {
+            int length = input.getInt(input.position());
+            if (length < 0 || length > input.capacity() - Integer.BYTES) {
+                throw new IOException("Invalid frame length " + length + ".");
+            }
+            if (input.remaining() < Integer.BYTES + length) {
+                return;
+            }
+            int start = input.position() + Integer.BYTES;
+            frames.accept(StandardCharsets.UTF_8.decode(input.slice(start, length)).toString());
+            input.position(start + length);
+        }
+    }
+
+    @Override
+    public ByteBuffer encode(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).flip();
+    }
+}
@@ -0,0 +1,37 @@
+package network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * UTF-8 messages ending in a newline, the protocol clients speak. A carriage return before the newline is dropped.
+ */
+public final class LineFrameCodec implements FrameCodec {
+
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    @Override
+    public void decode(ByteBuffer input, Consumer<String> frames) throws IOException {
+        int start = input.position();
+        for (int i = start; i < input.limit(); i++) {
+            if (input.get(i) == NEWLINE) {
+                int end = i > start && input.get(i - 1) == CARRIAGE_RETURN ? i - 1 : i;
+                frames.accept(StandardCharsets.UTF_8.decode(input.slice(start, end - start)).toString());
+                start = i + 1;
+            }
+        }
+        input.position(start);
+        if (input.remaining() == input.capacity()) {
+            throw new IOException("Line longer than " + input.capacity() + " bytes.");
+        }
+    }
+
+    @Override
+    public ByteBuffer encode(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(bytes.length + 1).put(bytes).put(NEWLINE).flip();
+    }
+}
@@ -0,0 +1,47 @@
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MessageParserTest {
+
+  @Test
+  void testParseJoin() {
+    assertEquals(new ClientMessage.Join("Alice", 200), MessageParser.parseJoin("Alice:200"));
+    assertEquals(new ClientMessage.Join("Bob", 12.5), MessageParser.parseJoin("Bob:12.50"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseJoin("Alice"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseJoin(":200"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseJoin("Alice:"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseJoin("Alice:2:00"));
+  }
+
+  @Test
+  void testParseAction() {
+    assertEquals(new ClientMessage.Action(0, 0), MessageParser.parseAction("0:0"));
+    assertEquals(new ClientMessage.Action(2, 4.25), MessageParser.parseAction("2:4.25"));
+    assertEquals(new ClientMessage.Action(1, 3), MessageParser.parseAction("1:3."));
+    assertEquals(new ClientMessage.Action(1, 0.5), MessageParser.parseAction("1:.5"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseAction("a:1"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseAction("1:-1"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseAction("1:1.2.3"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseAction("1:."));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseAction("1234567890:1"));
+    assertThrows(IllegalArgumentException.class, () -> MessageParser.parseAction("1:1234567890123456"));
+  }
+
+  @Test
+  void testAmountsMatchParseDouble() {
+    Random random = new Random(7);
+    for (int i = 0; i < 10000; i++) {
+      int fractionDigits = random.nextInt(MessageParser.MAX_AMOUNT_DIGITS);
+      long digits = random.nextLong(1L, 1_000_000_000_000_000L) % (long) Math.pow(10, MessageParser.MAX_AMOUNT_DIGITS);
+      String decimal = String.format("%0" + (fractionDigits + 1) + "d", digits);
+      String amount = decimal.substring(0, decimal.length() - fractionDigits) + "."
+          + decimal.substring(decimal.length() - fractionDigits);
+      assertEquals(Double.parseDouble(amount), MessageParser.parseAction("3:" + amount).amount(), amount);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import client.ClientHandler;
+import client.MessageParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import model.option.Option;
+import model.player.Player;
+import network.Connection;
+import network.ConnectionListener;
+import network.ConnectionServer;
+import network.LineFrameCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Lives in the game package, where the updates the handler sends are built.
+ */
+class ClientHandlerTest {
+
+  private final List<Option> options = List.of(new Option(Option.OptionType.BET, 2),
+      new Option(Option.OptionType.CHECK, 0));
+  private final CopyOnWriteArrayList<Connection> connections = new CopyOnWriteArrayList<>();
+  private final Player player = new Player(100, "Seated");
+  private TimerWheel timer;
+  private ClientHandler handler;
+  private ConnectionServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    timer = new TimerWheel(10, TimeUnit.MILLISECONDS, 64);
+    handler = new ClientHandler(timer, 1);
+    server = new ConnectionServer(1, LineFrameCodec::new, new ConnectionListener() {
+      @Override
+      public void onOpen(Connection connection) {
+        connections.add(connection);
+      }
+
+      @Override
+      public void onFrame(Connection connection, String frame) {
+        handler.receive(player.getPlayerId(), MessageParser.parseAction(frame));
+      }
+    });
+    server.bind(0);
+    var acceptor = new Thread(() -> {
+      try {
+        server.serve();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    acceptor.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.close();
+    timer.close();
+  }
+
+  @Test
+  void testImmediateReplyIsApplied() throws Exception {
+    try (var socket = connect(1)) {
+      var update = update(player, 5);
+      var updates = updatesOf(update);
+      var result = new Option[1];
+      var choice = new Thread(() -> result[0] = handler.getDesiredOption(player.getPlayerId(), updates, options));
+      choice.start();
+
+      var input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      assertEquals(update.toJson(), input.readLine());
+      socket.getOutputStream().write("0:4\n".getBytes(StandardCharsets.UTF_8));
+
+      choice.join(TimeUnit.SECONDS.toMillis(3));
+      assertEquals(new Option(Option.OptionType.BET, 4), result[0]);
+      assertEquals(1, handler.getTimeBankSecs(player.getPlayerId()));
+    }
+  }
+
+  @Test
+  void testClientJoiningMidHandIsSkipped() throws Exception {
+    try (var seated = connect(1); var joining = connect(2)) {
+      var newcomer = new Player(100, "Joining");
+      handler.addClient(newcomer.getPlayerId(), connections.get(1));
+      var update = update(player, 5);
+
+      var result = new Option[1];
+      var choice = new Thread(() -> result[0] = handler.getDesiredOption(player.getPlayerId(), updatesOf(update),
+          options));
+      choice.start();
+      var input = new BufferedReader(new InputStreamReader(seated.getInputStream(), StandardCharsets.UTF_8));
+      assertEquals(update.toJson(), input.readLine());
+      seated.getOutputStream().write("0:4\n".getBytes(StandardCharsets.UTF_8));
+
+      choice.join(TimeUnit.SECONDS.toMillis(3));
+      assertEquals(new Option(Option.OptionType.BET, 4), result[0]);
+    }
+  }
+
+  @Test
+  void testOvertimeIsChargedToTheTimeBank() throws Exception {
+    try (var socket = connect(1)) {
+      var updates = updatesOf(update(player, 1));
+      var result = new Option[1];
+      var choice = new Thread(() -> result[0] = handler.getDesiredOption(player.getPlayerId(), updates, options));
+      long start = System.nanoTime();
+      choice.start();
+
+      Thread.sleep(1500);
+      socket.getOutputStream().write("0:4\n".getBytes(StandardCharsets.UTF_8));
+      choice.join(TimeUnit.SECONDS.toMillis(3));
+
+      assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(1500));
+      assertEquals(new Option(Option.OptionType.BET, 4), result[0]);
+      assertEquals(0, handler.getTimeBankSecs(player.getPlayerId()));
+    }
+  }
+
+  @Test
+  void testChecksOrFoldsOnceTheTimeBankRunsOut() throws Exception {
+    try (var socket = connect(1)) {
+      long start = System.nanoTime();
+      var choice = handler.getDesiredOption(player.getPlayerId(), updatesOf(update(player, 1)), options);
+
+      assertTrue(System.nanoTime() - start >= TimeUnit.SECONDS.toNanos(2));
+      assertEquals(new Option(Option.OptionType.CHECK, 0), choice);
+      assertEquals(0, handler.getTimeBankSecs(player.getPlayerId()));
+
+      var facingBet = List.of(new Option(Option.OptionType.CALL, 2), new Option(Option.OptionType.FOLD, 0));
+      start = System.nanoTime();
+      choice = handler.getDesiredOption(player.getPlayerId(), updatesOf(update(player, 1)), facingBet);
+
+      long elapsed = System.nanoTime() - start;
+      assertTrue(elapsed >= TimeUnit.SECONDS.toNanos(1) && elapsed < TimeUnit.SECONDS.toNanos(2));
+      assertEquals(new Option(Option.OptionType.FOLD, 0), choice);
+    }
+  }
+
+  private Socket connect(int count) throws Exception {
+    var socket = new Socket("localhost", server.getPort());
+    for (int i = 0; i < 500 && connections.size() < count; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, connections.size());
+    if (count == 1) {
+      handler.addClient(player.getPlayerId(), connections.get(0));
+    }
+    return socket;
+  }
+
+  private static RegularUpdate update(Player player, int actionLimit) {
+    return new RegularUpdate(Rules.GameType.HOLDEM, player, null, List.of(), 0, new Player[] {player},
+        List.of(player), List.of(), 0, actionLimit);
+  }
+
+  private HashMap<UUID, RegularUpdate> updatesOf(RegularUpdate update) {
+    var updates = new HashMap<UUID, RegularUpdate>();
+    updates.put(player.getPlayerId(), update);
+    return updates;
+  }
+}
@@ -0,0 +1,38 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ExecutionModeTest {
+
+  @Test
+  void testStartUsesModeThreads() throws InterruptedException {
+    var virtual = ExecutionMode.VIRTUAL.start("virtual-table", () -> { });
+    var platform = ExecutionMode.PLATFORM.start("platform-table", () -> { });
+    virtual.join();
+    platform.join();
+    assertTrue(virtual.isVirtual());
+    assertFalse(platform.isVirtual());
+    assertEquals("virtual-table", virtual.getName());
+  }
+
+  @Test
+  void testFromProperty() {
+    var previous = System.getProperty(ExecutionMode.PROPERTY);
+    try {
+      System.clearProperty(ExecutionMode.PROPERTY);
+      assertEquals(ExecutionMode.PLATFORM, ExecutionMode.fromProperty());
+      System.setProperty(ExecutionMode.PROPERTY, "virtual");
+      assertEquals(ExecutionMode.VIRTUAL, ExecutionMode.fromProperty());
+    } finally {
+      if (previous == null) {
+        System.clearProperty(ExecutionMode.PROPERTY);
+      } else {
+        System.setProperty(ExecutionMode.PROPERTY, previous);
+      }
+    }
+  }
+}
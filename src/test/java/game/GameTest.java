@@ -264,19 +264,19 @@ public class GameTest {
   }
 
   private TestGame setupTwoPlayerTestGame(Player player1, Player player2) {
-    var card1 = new Card(Card.Rank.ACE, Card.Suit.SPADES);
-    var card2 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
-    var card3 = new Card(Card.Rank.KING, Card.Suit.DIAMONDS);
-    var card4 = new Card(Card.Rank.KING, Card.Suit.HEARTS);
+    var card1 = Card.of(Card.Rank.ACE, Card.Suit.SPADES);
+    var card2 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
+    var card3 = Card.of(Card.Rank.KING, Card.Suit.DIAMONDS);
+    var card4 = Card.of(Card.Rank.KING, Card.Suit.HEARTS);
 
     player1.addCard(card1);
     player1.addCard(card2);
     player2.addCard(card3);
     player2.addCard(card4);
 
-    var communityCards = Arrays.asList(new Card(Card.Rank.TWO, Card.Suit.HEARTS),
-        new Card(Card.Rank.TEN, Card.Suit.CLUBS), new Card(Card.Rank.FOUR, Card.Suit.DIAMONDS),
-        new Card(Card.Rank.SEVEN, Card.Suit.CLUBS), new Card(Card.Rank.KING, Card.Suit.SPADES));
+    var communityCards = Arrays.asList(Card.of(Card.Rank.TWO, Card.Suit.HEARTS),
+        Card.of(Card.Rank.TEN, Card.Suit.CLUBS), Card.of(Card.Rank.FOUR, Card.Suit.DIAMONDS),
+        Card.of(Card.Rank.SEVEN, Card.Suit.CLUBS), Card.of(Card.Rank.KING, Card.Suit.SPADES));
     var game = new TestGame(Arrays.asList(player1, player2), rules, clientHandler, communityCards);
 
     clientHandler.setGameType(GameType.HOLDEM);
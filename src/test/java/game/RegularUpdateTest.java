@@ -0,0 +1,25 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import model.hand.representation.HandRank;
+import model.player.Player;
+import org.junit.jupiter.api.Test;
+
+class RegularUpdateTest {
+
+  @Test
+  void testJsonCarriesHandRankAndDraws() {
+    var player = new Player(100, "Main");
+    var update = new RegularUpdate(Rules.GameType.HOLDEM, player, HandRank.PAIR, List.of("Flush Draw"), 0,
+        new Player[] {player}, List.of(player), List.of(), 0, 5);
+
+    var json = update.toJson();
+
+    assertTrue(json.contains("\"mainPlayerHandRank\":\"Pair\""), json);
+    assertTrue(json.contains("\"mainPlayerDraws\":[\"Flush Draw\"]"), json);
+    assertTrue(json.contains("\"mainPlayerUsername\":\"Main\""), json);
+    assertTrue(json.contains("\"actionLimit\":5"), json);
+  }
+}
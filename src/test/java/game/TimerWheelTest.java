@@ -0,0 +1,71 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+  @Test
+  void testTimeoutsNeverExpireEarly() throws InterruptedException {
+    try (var wheel = new TimerWheel(5, TimeUnit.MILLISECONDS, 8)) {
+      var expired = new CountDownLatch(1);
+      var elapsed = new long[1];
+      long start = System.nanoTime();
+      var timeout = wheel.schedule(100, TimeUnit.MILLISECONDS, () -> {
+        elapsed[0] = System.nanoTime() - start;
+        expired.countDown();
+      });
+
+      assertTrue(expired.await(5, TimeUnit.SECONDS));
+      assertTrue(elapsed[0] >= TimeUnit.MILLISECONDS.toNanos(100));
+      assertTrue(timeout.isExpired());
+      assertFalse(timeout.cancel());
+    }
+  }
+
+  @Test
+  void testCancelledTimeoutsNeverRun() throws InterruptedException {
+    try (var wheel = new TimerWheel(5, TimeUnit.MILLISECONDS, 8)) {
+      var runs = new AtomicInteger();
+      var marker = new CountDownLatch(1);
+      var timeout = wheel.schedule(20, TimeUnit.MILLISECONDS, runs::incrementAndGet);
+      wheel.schedule(60, TimeUnit.MILLISECONDS, marker::countDown);
+
+      assertTrue(timeout.cancel());
+      assertFalse(timeout.cancel());
+      assertTrue(marker.await(5, TimeUnit.SECONDS));
+      assertEquals(0, runs.get());
+      assertTrue(timeout.isCancelled());
+      for (int i = 0; i < 100 && wheel.getPending() != 0; i++) {
+        Thread.sleep(10);
+      }
+      assertEquals(0, wheel.getPending());
+    }
+  }
+
+  @Test
+  void testManyTimeoutsAcrossSeveralTurns() throws InterruptedException {
+    try (var wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 4)) {
+      var expired = new CountDownLatch(1000);
+      for (int i = 0; i < 1000; i++) {
+        var timeout = wheel.schedule(i % 50, TimeUnit.MILLISECONDS, expired::countDown);
+        if (i % 10 == 0) {
+          timeout.cancel();
+          expired.countDown();
+        }
+      }
+
+      assertTrue(expired.await(5, TimeUnit.SECONDS));
+      for (int i = 0; i < 100 && wheel.getPending() != 0; i++) {
+        Thread.sleep(10);
+      }
+      assertEquals(0, wheel.getPending());
+    }
+  }
+}
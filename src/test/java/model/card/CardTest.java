@@ -3,6 +3,7 @@ package model.card;
 import org.junit.jupiter.api.Test;
 
 import java.util.Comparator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -10,8 +11,8 @@ public class CardTest {
 
   @Test
   public final void testCardComparatorDifferent() {
-    Card c1 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
-    Card c2 = new Card(Card.Rank.TWO, Card.Suit.CLUBS);
+    Card c1 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card c2 = Card.of(Card.Rank.TWO, Card.Suit.CLUBS);
 
     Comparator<Card> cc = new Card.CardComparator();
 
@@ -21,8 +22,8 @@ public class CardTest {
 
   @Test
   public final void testCardComparatorSame() {
-    Card c1 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
-    Card c2 = new Card(Card.Rank.ACE, Card.Suit.SPADES);
+    Card c1 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card c2 = Card.of(Card.Rank.ACE, Card.Suit.SPADES);
 
     Comparator<Card> cc = new Card.CardComparator();
 
@@ -31,37 +32,59 @@ public class CardTest {
 
   @Test
   public final void testCardEqual() {
-    Card c1 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
-    Card c2 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card c1 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card c2 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
 
     assertEquals(c1, c2);
   }
 
   @Test
   public final void testCardNotEqualSuit() {
-    Card c1 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
-    Card c2 = new Card(Card.Rank.ACE, Card.Suit.DIAMONDS);
+    Card c1 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card c2 = Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS);
 
     assertNotEquals(c1, c2);
   }
 
   @Test
   public final void testCardNotEqualRank() {
-    Card c1 = new Card(Card.Rank.ACE, Card.Suit.DIAMONDS);
-    Card c2 = new Card(Card.Rank.JACK, Card.Suit.DIAMONDS);
+    Card c1 = Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS);
+    Card c2 = Card.of(Card.Rank.JACK, Card.Suit.DIAMONDS);
 
     assertNotEquals(c1, c2);
   }
 
   @Test
   public final void testHashCode() {
-    Card c1 = new Card(Card.Rank.ACE, Card.Suit.DIAMONDS);
-    Card c2 = new Card(Card.Rank.ACE, Card.Suit.DIAMONDS);
-    Card c3 = new Card(Card.Rank.JACK, Card.Suit.SPADES);
-    Card c4 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card c1 = Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS);
+    Card c2 = Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS);
+    Card c3 = Card.of(Card.Rank.JACK, Card.Suit.SPADES);
+    Card c4 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
 
     assertEquals(c1.hashCode(), c2.hashCode());
     assertNotEquals(c1.hashCode(), c3.hashCode());
     assertNotEquals(c1.hashCode(), c4.hashCode());
   }
+
+  @Test
+  public final void testCardsAreInterned() {
+    Card card = Card.of(Card.Rank.QUEEN, Card.Suit.SPADES);
+
+    assertSame(card, Card.of(Card.Rank.QUEEN, Card.Suit.SPADES));
+    assertSame(card, Card.of(card.getId()));
+    assertEquals(10 * Card.SUIT_COUNT + Card.Suit.SPADES.ordinal(), card.getId());
+    assertEquals(10, Card.rankIndex(card.getId()));
+    assertEquals(Card.Suit.SPADES.ordinal(), Card.suitIndex(card.getId()));
+    assertThrows(IllegalArgumentException.class, () -> Card.of(Card.Rank.ONE, Card.Suit.SPADES));
+  }
+
+  @Test
+  public final void testMask() {
+    Card c1 = Card.of(Card.Rank.TWO, Card.Suit.HEARTS);
+    Card c2 = Card.of(Card.Rank.ACE, Card.Suit.SPADES);
+
+    assertEquals(1L, c1.getMask());
+    assertEquals(1L << (Card.CARD_COUNT - 1), c2.getMask());
+    assertEquals(c1.getMask() | c2.getMask(), Card.mask(List.of(c1, c2)));
+  }
 }
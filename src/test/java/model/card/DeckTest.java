@@ -3,6 +3,9 @@ package model.card;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -15,12 +18,21 @@ public class DeckTest {
     for (Card.Rank r : Card.Rank.values()) {
       if (r != Card.Rank.ONE) {
         for (Card.Suit s : Card.Suit.values()) {
-          assertTrue(deck.contains(new Card(r, s)));
+          assertTrue(deck.contains(Card.of(r, s)));
         }
       }
     }
   }
 
+  @Test
+  public void testShortDeckInit() {
+    Deck deck = new Deck(Card.Rank.SIX);
+
+    assertEquals(36, deck.size());
+    assertTrue(deck.contains(Card.of(Card.Rank.SIX, Card.Suit.SPADES)));
+    assertFalse(deck.contains(Card.of(Card.Rank.FIVE, Card.Suit.SPADES)));
+  }
+
   @Test
   public void testDeckShuffled() {
     assertNotEquals(Collections.singletonList(new Deck()).toArray(),
@@ -31,8 +43,31 @@ public class DeckTest {
   public void testDealCard() {
     Deck deck = new Deck();
 
-    assertEquals(deck.lastElement(), deck.pop());
+    assertEquals(deck.peek(), deck.pop());
     assertEquals(51, deck.size());
   }
-}
 
+  @Test
+  public void testSeededDecksDealTheSameCards() {
+    Deck deck = new Deck(Card.Rank.TWO, new SplittableRandom(234));
+    Deck sameSeed = new Deck(Card.Rank.TWO, new SplittableRandom(234));
+
+    for (int i = 0; i < 25; i++) {
+      assertSame(deck.pop(), sameSeed.pop());
+    }
+  }
+
+  @Test
+  public void testDealEveryCard() {
+    Deck deck = new Deck(Card.Rank.SIX);
+    Set<Card> dealt = new HashSet<>();
+    while (deck.size() > 0) {
+      Card card = deck.pop();
+      assertFalse(deck.contains(card));
+      dealt.add(card);
+    }
+
+    assertEquals(36, dealt.size());
+    assertThrows(IllegalStateException.class, deck::pop);
+  }
+}
@@ -0,0 +1,57 @@
+package model.card;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SecureShuffleServiceTest {
+
+  @Test
+  public void testBoundedIntsCoverTheRange() {
+    try (SecureShuffleService service = new SecureShuffleService(2, 64)) {
+      int[] counts = new int[6];
+      for (int i = 0; i < 6000; i++) {
+        counts[service.nextInt(6)]++;
+      }
+
+      for (int count : counts) {
+        assertTrue(count > 800 && count < 1200);
+      }
+      assertThrows(IllegalArgumentException.class, () -> service.nextInt(0));
+    }
+  }
+
+  @Test
+  public void testBuffersAreRefilled() throws InterruptedException {
+    try (SecureShuffleService service = new SecureShuffleService(1, 16)) {
+      for (int i = 0; i < 100; i++) {
+        service.nextInt();
+      }
+      for (int i = 0; i < 100 && service.getPoolDepth() <= 16; i++) {
+        Thread.sleep(10);
+      }
+
+      assertTrue(service.getRefills() + service.getStalls() >= 6);
+      assertTrue(service.getPoolDepth() > 0);
+      assertTrue(service.getMaxRefillNanos() >= service.getAverageRefillNanos());
+    }
+  }
+
+  @Test
+  public void testDeckDealsEveryCardOnce() {
+    try (SecureShuffleService service = new SecureShuffleService(1, 32)) {
+      Deck deck = new Deck(Card.Rank.TWO, service);
+      Set<Card> dealt = new HashSet<>();
+      while (deck.size() > 0) {
+        dealt.add(deck.pop());
+      }
+
+      assertEquals(Card.CARD_COUNT, dealt.size());
+    }
+  }
+}
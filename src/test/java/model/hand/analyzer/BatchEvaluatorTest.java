@@ -0,0 +1,44 @@
+package model.hand.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchEvaluatorTest {
+
+  @Test
+  public void testBatchMatchesSingleHands() {
+    int hands = 1001;
+    int cardsPerHand = 7;
+    int[] cards = new int[hands * cardsPerHand];
+    SplittableRandom random = new SplittableRandom(7);
+    for (int hand = 0; hand < hands; hand++) {
+      long used = 0;
+      for (int card = 0; card < cardsPerHand; card++) {
+        int code;
+        do {
+          code = random.nextInt(CardCodes.CARD_COUNT);
+        } while ((used & 1L << code) != 0);
+        used |= 1L << code;
+        cards[hand * cardsPerHand + card] = code;
+      }
+    }
+
+    int[] scores = BatchEvaluator.evaluate(cards, cardsPerHand);
+
+    assertEquals(hands, scores.length);
+    int[] hand = new int[cardsPerHand];
+    for (int i = 0; i < hands; i++) {
+      System.arraycopy(cards, i * cardsPerHand, hand, 0, cardsPerHand);
+      assertEquals(HoldEmAnalyzer.evaluate(hand, cardsPerHand), scores[i]);
+    }
+  }
+
+  @Test
+  public void testRejectsShortInput() {
+    assertThrows(IllegalArgumentException.class, () -> BatchEvaluator.evaluate(new int[10], 5, new int[3]));
+  }
+}
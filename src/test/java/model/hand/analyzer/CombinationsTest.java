@@ -0,0 +1,49 @@
+package model.hand.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CombinationsTest {
+
+  @Test
+  public void testCounts() {
+    assertEquals(21, Combinations.count(7, 5));
+    assertEquals(6, Combinations.count(4, 2));
+    assertEquals(10, Combinations.count(5, 3));
+    assertEquals(126, Combinations.count(9, 5));
+    assertEquals(1, Combinations.count(5, 0));
+  }
+
+  @Test
+  public void testIndexesAreDistinctCombinations() {
+    int[] indexes = Combinations.indexes(7, 5);
+    assertEquals(21 * 5, indexes.length);
+
+    Set<Integer> masks = new HashSet<>();
+    for (int offset = 0; offset < indexes.length; offset += 5) {
+      int mask = 0;
+      for (int i = offset; i < offset + 5; i++) {
+        assertTrue(indexes[i] < 7);
+        mask |= 1 << indexes[i];
+      }
+      assertEquals(5, Integer.bitCount(mask));
+      masks.add(mask);
+    }
+    assertEquals(21, masks.size());
+  }
+
+  @Test
+  public void testIndexesLexicographicOrder() {
+    int[] indexes = Combinations.indexes(4, 2);
+    int[] expected = {0, 1, 0, 2, 0, 3, 1, 2, 1, 3, 2, 3};
+
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], indexes[i]);
+    }
+  }
+}
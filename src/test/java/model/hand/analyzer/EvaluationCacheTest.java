@@ -0,0 +1,53 @@
+package model.hand.analyzer;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EvaluationCacheTest {
+
+  @Test
+  public void testHitAfterMiss() {
+    EvaluationCache cache = new EvaluationCache(16);
+    List<Card> cards = Arrays.asList(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.ACE, Suit.DIAMONDS),
+        Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.FOUR, Suit.HEARTS), Card.of(Rank.EIGHT, Suit.CLUBS),
+        Card.of(Rank.NINE, Suit.DIAMONDS), Card.of(Rank.TEN, Suit.SPADES));
+    long mask = CardCodes.mask(cards);
+
+    int score = cache.get(mask, () -> HoldEmAnalyzer.evaluate(cards));
+    assertEquals(score, cache.get(mask, () -> 0));
+    assertEquals(HoldEmAnalyzer.evaluate(cards), score);
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  public void testCardMaskIgnoresOrder() {
+    Card card1 = Card.of(Rank.KING, Suit.HEARTS);
+    Card card2 = Card.of(Rank.TWO, Suit.SPADES);
+
+    long mask = CardCodes.mask(Arrays.asList(card1, card2));
+    assertEquals(mask, CardCodes.mask(Arrays.asList(card2, card1)));
+    assertEquals(2, Long.bitCount(mask));
+  }
+
+  @Test
+  public void testCapacityIsBounded() {
+    EvaluationCache cache = new EvaluationCache(4);
+    for (int i = 0; i < 52; i++) {
+      int score = i;
+      cache.get(1L << i, () -> score);
+    }
+
+    assertEquals(4, cache.capacity());
+    assertEquals(52, cache.getMisses());
+    assertTrue(cache.getEvictions() >= 48);
+  }
+}
@@ -0,0 +1,74 @@
+package model.hand.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EvaluationTablesTest {
+
+  @Test
+  public void testGeneratedTablesMapBack() throws IOException {
+    Path path = Files.createTempFile("tables", ".bin");
+    try {
+      EvaluationTables.write(path, Map.of(EvaluationTables.Section.PREFLOP_EQUITY, equities()));
+      Map<EvaluationTables.Section, ByteBuffer> sections = EvaluationTables.read(path);
+
+      ShortBuffer read = sections.get(EvaluationTables.Section.PREFLOP_EQUITY).asShortBuffer();
+      assertEquals(equities().asShortBuffer(), read);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testCorruptTablesAreRejected() throws IOException {
+    Path path = Files.createTempFile("tables", ".bin");
+    try {
+      EvaluationTables.write(path, Map.of(EvaluationTables.Section.PREFLOP_EQUITY, equities()));
+      byte[] bytes = Files.readAllBytes(path);
+      bytes[bytes.length / 2] ^= 1;
+      Files.write(path, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+      IOException e = assertThrows(IOException.class, () -> EvaluationTables.load(path));
+      assertEquals("Evaluation table checksum mismatch in " + path + ".", e.getMessage());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testOtherVersionIsRejected() throws IOException {
+    Path path = Files.createTempFile("tables", ".bin");
+    try {
+      EvaluationTables.write(path, Map.of(EvaluationTables.Section.PREFLOP_EQUITY, equities()));
+      byte[] bytes = Files.readAllBytes(path);
+      bytes[Integer.BYTES]++;
+      Files.write(path, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+      assertThrows(IOException.class, () -> EvaluationTables.load(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * A small stand in for the preflop equity tables, which take hours to generate.
+   */
+  private static ByteBuffer equities() {
+    ByteBuffer data = ByteBuffer.allocate(Short.BYTES * 64).order(ByteOrder.LITTLE_ENDIAN);
+    for (short i = 0; i < 64; i++) {
+      data.putShort((short) (i * 512));
+    }
+    return data.flip();
+  }
+}
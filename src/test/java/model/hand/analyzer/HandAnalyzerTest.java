@@ -23,23 +23,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testAceKingHighCardComp() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.KING, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -51,23 +51,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHighCardTie() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6,
         oCard7};
@@ -80,23 +80,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHighCardLowestCardWin() {
-    Card card1 = new Card(Rank.SEVEN, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.JACK, Suit.SPADES);
+    Card card1 = Card.of(Rank.SEVEN, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.JACK, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.SEVEN, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.SIX, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.JACK, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.SEVEN, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.SIX, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.JACK, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -108,23 +108,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testSamePairHighCard() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.KING, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.KING, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -136,23 +136,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.TWO, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -164,23 +164,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherTopPairTwoPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.KING, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.KING, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.KING, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -192,23 +192,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherLowPairTwoPair() {
-    Card card1 = new Card(Rank.KING, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.EIGHT, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.EIGHT, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.KING, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.KING, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.KING, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -220,23 +220,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherLastCardTwoPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.KING, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -248,23 +248,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testTwoPairEqual() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -276,23 +276,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherTrip3Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.KING, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -304,23 +304,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherOtherCard3Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.KING, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -332,23 +332,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testThreeKindEqual() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.ACE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.SIX, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.TWO, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.SIX, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -360,23 +360,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherPair4Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.KING, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.KING, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -388,23 +388,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherOtherCard4Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.KING, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.KING, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.TEN, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.ACE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.ACE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.NINE, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.ACE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.NINE, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -416,23 +416,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void test4KindSame() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.ACE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.ACE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.ACE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -444,23 +444,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testStraightSame() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.TWO, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.FOUR, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.FIVE, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.TWO, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.FOUR, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.FIVE, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.FIVE, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.FIVE, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -472,23 +472,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherStraight() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card card6 = new Card(Rank.FIVE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.SIX, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card6 = Card.of(Rank.FIVE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.SIX, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TWO, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.FOUR, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.FIVE, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TWO, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.FOUR, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.FIVE, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -501,23 +501,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testStraightHigherMiddle() {
-    Card card1 = new Card(Rank.JACK, Suit.CLUBS);
-    Card card2 = new Card(Rank.QUEEN, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.TEN, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.NINE, Suit.CLUBS);
-    Card card6 = new Card(Rank.KING, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.SIX, Suit.SPADES);
+    Card card1 = Card.of(Rank.JACK, Suit.CLUBS);
+    Card card2 = Card.of(Rank.QUEEN, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.NINE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.KING, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.SIX, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.JACK, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TEN, Suit.SPADES);
-    Card oCard4 = new Card(Rank.NINE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.FOUR, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.FIVE, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.JACK, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TEN, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.NINE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.FOUR, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.FIVE, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -529,23 +529,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testFlushSame() {
-    Card card1 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -557,23 +557,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherFlush() {
-    Card card1 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.JACK, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.JACK, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard4 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -585,23 +585,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testFullHouseHigherPair() {
-    Card card1 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card3 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.TWO, Suit.HEARTS);
-    Card card5 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.JACK, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card3 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.TWO, Suit.HEARTS);
+    Card card5 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.JACK, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TWO, Suit.SPADES);
-    Card oCard4 = new Card(Rank.TWO, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.THREE, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TWO, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.TWO, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -613,23 +613,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testFullHouseHigherTrip() {
-    Card card1 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card3 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.JACK, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card3 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.JACK, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TWO, Suit.SPADES);
-    Card oCard4 = new Card(Rank.TWO, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.THREE, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.TEN, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TWO, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.TWO, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.TEN, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -641,23 +641,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testFullHouseSame() {
-    Card card1 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card3 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.JACK, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card3 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.JACK, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card oCard2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TWO, Suit.SPADES);
-    Card oCard4 = new Card(Rank.TWO, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.THREE, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.THREE, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card oCard2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TWO, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.TWO, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.THREE, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -669,23 +669,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testStraightFlushSame() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card5 = new Card(Rank.FOUR, Suit.DIAMONDS);
-    Card card6 = new Card(Rank.FIVE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.SEVEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.FOUR, Suit.DIAMONDS);
+    Card card6 = Card.of(Rank.FIVE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.SEVEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.SPADES);
-    Card oCard2 = new Card(Rank.THREE, Suit.SPADES);
-    Card oCard3 = new Card(Rank.TWO, Suit.SPADES);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.FOUR, Suit.SPADES);
-    Card oCard7 = new Card(Rank.FIVE, Suit.SPADES);
+    Card oCard1 = Card.of(Rank.ACE, Suit.SPADES);
+    Card oCard2 = Card.of(Rank.THREE, Suit.SPADES);
+    Card oCard3 = Card.of(Rank.TWO, Suit.SPADES);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.FOUR, Suit.SPADES);
+    Card oCard7 = Card.of(Rank.FIVE, Suit.SPADES);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -697,23 +697,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testHigherStraightFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.SPADES);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.SPADES);
-    Card card5 = new Card(Rank.FOUR, Suit.SPADES);
-    Card card6 = new Card(Rank.FIVE, Suit.SPADES);
-    Card card7 = new Card(Rank.SIX, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.SPADES);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card5 = Card.of(Rank.FOUR, Suit.SPADES);
+    Card card6 = Card.of(Rank.FIVE, Suit.SPADES);
+    Card card7 = Card.of(Rank.SIX, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card oCard4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.FOUR, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.FIVE, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card oCard4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.FOUR, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.FIVE, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
@@ -725,23 +725,23 @@ public class HandAnalyzerTest {
 
   @Test
   public void testRoyalFlushTie() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.JACK, Suit.CLUBS);
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.FIVE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.SIX, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.JACK, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.FIVE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.SIX, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
-    Card oCard1 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card oCard2 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card oCard3 = new Card(Rank.TEN, Suit.DIAMONDS);
-    Card oCard4 = new Card(Rank.JACK, Suit.DIAMONDS);
-    Card oCard5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card oCard6 = new Card(Rank.QUEEN, Suit.DIAMONDS);
-    Card oCard7 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card oCard1 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card oCard2 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card oCard3 = Card.of(Rank.TEN, Suit.DIAMONDS);
+    Card oCard4 = Card.of(Rank.JACK, Suit.DIAMONDS);
+    Card oCard5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card oCard6 = Card.of(Rank.QUEEN, Suit.DIAMONDS);
+    Card oCard7 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] otherCards = {oCard1, oCard2, oCard3, oCard4, oCard5, oCard6, oCard7};
 
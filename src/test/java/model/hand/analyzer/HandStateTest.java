@@ -0,0 +1,60 @@
+package model.hand.analyzer;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import model.hand.representation.HandRank;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HandStateTest {
+
+  @Test
+  public void testStreetByStreet() {
+    var state = new HandState(Arrays.asList(Card.of(Rank.NINE, Suit.HEARTS), Card.of(Rank.TEN, Suit.HEARTS)));
+    assertEquals(HandRank.HIGH_CARD, state.getHandRank());
+
+    state.add(Card.of(Rank.JACK, Suit.HEARTS));
+    state.add(Card.of(Rank.NINE, Suit.CLUBS));
+    state.add(Card.of(Rank.EIGHT, Suit.HEARTS));
+    assertEquals(HandRank.PAIR, state.getHandRank());
+    assertTrue(state.hasFlushDraw());
+    assertTrue(state.hasStraightDraw());
+
+    state.add(Card.of(Rank.TWO, Suit.CLUBS));
+    assertEquals(HandRank.PAIR, state.getHandRank());
+    assertTrue(state.hasFlushDraw());
+
+    state.add(Card.of(Rank.THREE, Suit.HEARTS));
+    assertEquals(HandRank.FLUSH, state.getHandRank());
+    assertFalse(state.hasFlushDraw());
+  }
+
+  @Test
+  public void testScoreMatchesFullEvaluation() {
+    List<Card> cards = Arrays.asList(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES),
+        Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.FIVE, Suit.CLUBS),
+        Card.of(Rank.SEVEN, Suit.CLUBS), Card.of(Rank.TWO, Suit.CLUBS));
+    var state = new HandState();
+    cards.forEach(state::add);
+
+    assertEquals(HoldEmAnalyzer.evaluate(cards), state.getScore());
+    assertEquals(CardCodes.mask(cards), state.getCardMask());
+    assertEquals(HandRank.FLUSH, state.getHandRank());
+  }
+
+  @Test
+  public void testPreflopHasNoScore() {
+    var state = new HandState(Arrays.asList(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES)));
+
+    assertEquals(HandRank.PAIR, state.getHandRank());
+    assertThrows(IllegalStateException.class, state::getScore);
+  }
+}
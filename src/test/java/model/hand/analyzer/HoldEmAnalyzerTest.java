@@ -14,13 +14,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class HoldEmAnalyzerTest {
   @Test
   public void testTopRankHighCard() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -30,13 +30,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testRankPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -46,13 +46,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testTwoPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -62,13 +62,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void test3Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -78,13 +78,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testFullHouse() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card5 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -94,13 +94,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void test4Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.ACE, Suit.HEARTS);
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.ACE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -110,13 +110,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testStraight() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -126,13 +126,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testStraightFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -142,13 +142,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testRoyalFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.JACK, Suit.CLUBS);
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.JACK, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -158,13 +158,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -174,13 +174,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testStraightOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
-    Card card5 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.FIVE, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.FIVE, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -190,13 +190,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testFlushOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.THREE, Suit.DIAMONDS);
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.CLUBS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.THREE, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.CLUBS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -206,13 +206,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testStraightFlushOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card card5 = new Card(Rank.FIVE, Suit.HEARTS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.FIVE, Suit.CLUBS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card5 = Card.of(Rank.FIVE, Suit.HEARTS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.FIVE, Suit.CLUBS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -222,13 +222,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testRoyalFlushOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.JACK, Suit.CLUBS);
-    Card card5 = new Card(Rank.TEN, Suit.SPADES);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.CLUBS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.JACK, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.CLUBS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -238,13 +238,13 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testStraightAndFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card card5 = new Card(Rank.FIVE, Suit.HEARTS);
-    Card card6 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card7 = new Card(Rank.ACE, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card5 = Card.of(Rank.FIVE, Suit.HEARTS);
+    Card card6 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card7 = Card.of(Rank.ACE, Suit.HEARTS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
@@ -254,17 +254,52 @@ public class HoldEmAnalyzerTest {
 
   @Test
   public void testBroadwayStraight() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.JACK, Suit.CLUBS);
-    Card card5 = new Card(Rank.TEN, Suit.HEARTS);
-    Card card6 = new Card(Rank.NINE, Suit.HEARTS);
-    Card card7 = new Card(Rank.EIGHT, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.JACK, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.HEARTS);
+    Card card6 = Card.of(Rank.NINE, Suit.HEARTS);
+    Card card7 = Card.of(Rank.EIGHT, Suit.HEARTS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
 
     HoldEmAnalyzer holdEmAnalyzer = new HoldEmAnalyzer(Arrays.asList(cards));
     assertEquals(holdEmAnalyzer.getTopRank(), HandRank.STRAIGHT);
   }
+
+  @Test
+  public void testEvaluateMatchesAnalyzerScore() {
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card5 = Card.of(Rank.FIVE, Suit.HEARTS);
+    Card card6 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card7 = Card.of(Rank.ACE, Suit.HEARTS);
+
+    Card[] cards = {card1, card2, card3, card4, card5, card6, card7};
+
+    HoldEmAnalyzer holdEmAnalyzer = new HoldEmAnalyzer(Arrays.asList(cards));
+    assertEquals(holdEmAnalyzer.getScore(), HoldEmAnalyzer.evaluate(Arrays.asList(cards)));
+  }
+
+  @Test
+  public void testEvaluateFullHouseOverFlush() {
+    Card card1 = Card.of(Rank.KING, Suit.HEARTS);
+    Card card2 = Card.of(Rank.KING, Suit.SPADES);
+    Card card3 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card4 = Card.of(Rank.FIVE, Suit.HEARTS);
+    Card card5 = Card.of(Rank.FIVE, Suit.SPADES);
+    Card card6 = Card.of(Rank.TWO, Suit.HEARTS);
+    Card card7 = Card.of(Rank.NINE, Suit.HEARTS);
+    Card card8 = Card.of(Rank.JACK, Suit.HEARTS);
+
+    Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8};
+
+    int score = HoldEmAnalyzer.evaluate(Arrays.asList(cards));
+    assertEquals(HandRank.FULL_HOUSE, HandStrength.handRank(score));
+    assertEquals(Rank.KING, HandStrength.rankAt(score, 0));
+    assertEquals(Rank.FIVE, HandStrength.rankAt(score, 4));
+  }
 }
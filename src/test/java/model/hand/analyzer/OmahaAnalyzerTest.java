@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -20,16 +21,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class OmahaAnalyzerTest extends HandAnalyzerTest {
   @Test
   public void testTopRankHighCard() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -39,16 +40,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testRankPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -58,16 +59,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testTwoPairInHandPAIR() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -77,16 +78,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testTwoPair() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.EIGHT, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.EIGHT, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.THREE, Suit.HEARTS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.KING, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.THREE, Suit.HEARTS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
     HandAnalyzer hA = new OmahaAnalyzer(Arrays.asList(cards));
@@ -95,16 +96,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void test3KindInHandPAIR() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -114,16 +115,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void test3Kind() {
-    Card card1 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card2 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.TEN, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card1 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card2 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card6 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.ACE, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -133,16 +134,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testFullHouse() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.ACE, Suit.HEARTS);
-    Card card4 = new Card(Rank.THREE, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.ACE, Suit.HEARTS);
+    Card card4 = Card.of(Rank.THREE, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.KING, Suit.SPADES);
-    Card card8 = new Card(Rank.ACE, Suit.SPADES);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.KING, Suit.SPADES);
+    Card card8 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -152,16 +153,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void test4Kind() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.EIGHT, Suit.CLUBS);
-    Card card4 = new Card(Rank.NINE, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.EIGHT, Suit.CLUBS);
+    Card card4 = Card.of(Rank.NINE, Suit.DIAMONDS);
 
-    Card card5 = new Card(Rank.ACE, Suit.SPADES);
-    Card card6 = new Card(Rank.ACE, Suit.HEARTS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.ACE, Suit.SPADES);
+    Card card6 = Card.of(Rank.ACE, Suit.HEARTS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -171,16 +172,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testStraightOnBoardHighCard() {
-    Card card1 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.TEN, Suit.SPADES);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.KING, Suit.DIAMONDS);
 
-    Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card card6 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card7 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card8 = new Card(Rank.THREE, Suit.SPADES);
-    Card card9 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card7 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card8 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card9 = Card.of(Rank.FOUR, Suit.HEARTS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -190,16 +191,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testStraight() {
-    Card card1 = new Card(Rank.ACE, Suit.DIAMONDS);
-    Card card2 = new Card(Rank.FIVE, Suit.SPADES);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.ACE, Suit.DIAMONDS);
+    Card card2 = Card.of(Rank.FIVE, Suit.SPADES);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.KING, Suit.DIAMONDS);
 
-    Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card card6 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card7 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card8 = new Card(Rank.THREE, Suit.SPADES);
-    Card card9 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card7 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card8 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card9 = Card.of(Rank.FOUR, Suit.HEARTS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -209,16 +210,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testStraightFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.SPADES);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.SPADES);
 
-    Card card5 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card card6 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card card7 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card7 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -228,16 +229,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testRoyalFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.DIAMONDS);
-    Card card4 = new Card(Rank.ACE, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.DIAMONDS);
+    Card card4 = Card.of(Rank.ACE, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.JACK, Suit.CLUBS);
-    Card card9 = new Card(Rank.QUEEN, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.JACK, Suit.CLUBS);
+    Card card9 = Card.of(Rank.QUEEN, Suit.CLUBS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -247,16 +248,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testFlush() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.HEARTS);
-    Card card4 = new Card(Rank.THREE, Suit.CLUBS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.HEARTS);
+    Card card4 = Card.of(Rank.THREE, Suit.CLUBS);
 
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.CLUBS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.CLUBS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -266,16 +267,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testStraightOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.DIAMONDS);
-    Card card3 = new Card(Rank.THREE, Suit.SPADES);
-    Card card4 = new Card(Rank.FOUR, Suit.HEARTS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.DIAMONDS);
+    Card card3 = Card.of(Rank.THREE, Suit.SPADES);
+    Card card4 = Card.of(Rank.FOUR, Suit.HEARTS);
 
-    Card card5 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.FIVE, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.THREE, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.FIVE, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.THREE, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -285,16 +286,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testFlushOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.THREE, Suit.DIAMONDS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.THREE, Suit.DIAMONDS);
 
-    Card card5 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.CLUBS);
-    Card card7 = new Card(Rank.TEN, Suit.SPADES);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.CLUBS);
+    Card card7 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -304,16 +305,16 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testStraightFlushOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.TWO, Suit.CLUBS);
-    Card card3 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card4 = new Card(Rank.FOUR, Suit.CLUBS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.TWO, Suit.CLUBS);
+    Card card3 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card4 = Card.of(Rank.FOUR, Suit.CLUBS);
 
-    Card card5 = new Card(Rank.THREE, Suit.CLUBS);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.FIVE, Suit.CLUBS);
-    Card card8 = new Card(Rank.FOUR, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.DIAMONDS);
+    Card card5 = Card.of(Rank.THREE, Suit.CLUBS);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card card8 = Card.of(Rank.FOUR, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.DIAMONDS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
@@ -323,20 +324,84 @@ public class OmahaAnalyzerTest extends HandAnalyzerTest {
 
   @Test
   public void testRoyalFlushOutOfOrder() {
-    Card card1 = new Card(Rank.ACE, Suit.CLUBS);
-    Card card2 = new Card(Rank.KING, Suit.CLUBS);
-    Card card3 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card4 = new Card(Rank.JACK, Suit.CLUBS);
+    Card card1 = Card.of(Rank.ACE, Suit.CLUBS);
+    Card card2 = Card.of(Rank.KING, Suit.CLUBS);
+    Card card3 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card4 = Card.of(Rank.JACK, Suit.CLUBS);
 
-    Card card5 = new Card(Rank.TEN, Suit.SPADES);
-    Card card6 = new Card(Rank.NINE, Suit.DIAMONDS);
-    Card card7 = new Card(Rank.TEN, Suit.CLUBS);
-    Card card8 = new Card(Rank.QUEEN, Suit.CLUBS);
-    Card card9 = new Card(Rank.KING, Suit.CLUBS);
+    Card card5 = Card.of(Rank.TEN, Suit.SPADES);
+    Card card6 = Card.of(Rank.NINE, Suit.DIAMONDS);
+    Card card7 = Card.of(Rank.TEN, Suit.CLUBS);
+    Card card8 = Card.of(Rank.QUEEN, Suit.CLUBS);
+    Card card9 = Card.of(Rank.KING, Suit.CLUBS);
 
     Card[] cards = {card1, card2, card3, card4, card5, card6, card7, card8, card9};
 
     HandAnalyzer hA = new OmahaAnalyzer(Arrays.asList(cards));
     assertEquals(hA.getTopRank(), HandRank.ROYAL_FLUSH);
   }
+
+  @Test
+  public void testSharedBoardNeedsTwoSuitedHoleCards() {
+    Card[] board = {Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.SEVEN, Suit.HEARTS),
+        Card.of(Rank.NINE, Suit.HEARTS), Card.of(Rank.KING, Suit.HEARTS),
+        Card.of(Rank.FOUR, Suit.CLUBS)};
+    Card[] oneHeart = {Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES),
+        Card.of(Rank.JACK, Suit.DIAMONDS), Card.of(Rank.THREE, Suit.CLUBS)};
+    Card[] twoHearts = {Card.of(Rank.FIVE, Suit.HEARTS), Card.of(Rank.SIX, Suit.HEARTS),
+        Card.of(Rank.JACK, Suit.SPADES), Card.of(Rank.THREE, Suit.CLUBS)};
+
+    OmahaBoard omahaBoard = new OmahaBoard(Arrays.asList(board));
+    int oneHeartScore = OmahaAnalyzer.evaluate(Arrays.asList(oneHeart), omahaBoard);
+    int twoHeartsScore = OmahaAnalyzer.evaluate(Arrays.asList(twoHearts), omahaBoard);
+
+    assertEquals(HandRank.PAIR, HandStrength.handRank(oneHeartScore));
+    assertEquals(HandRank.FLUSH, HandStrength.handRank(twoHeartsScore));
+    assertEquals(twoHeartsScore, new OmahaAnalyzer(Arrays.asList(twoHearts[0], twoHearts[1], twoHearts[2],
+        twoHearts[3], board[0], board[1], board[2], board[3], board[4])).getScore());
+  }
+
+  @Test
+  public void testHiLoLowNeedsTwoHoleCards() {
+    Card[] board = {Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.TWO, Suit.CLUBS),
+        Card.of(Rank.THREE, Suit.DIAMONDS), Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.EIGHT, Suit.SPADES)};
+    Card[] wheel = {Card.of(Rank.FOUR, Suit.CLUBS), Card.of(Rank.FIVE, Suit.DIAMONDS),
+        Card.of(Rank.NINE, Suit.SPADES), Card.of(Rank.NINE, Suit.HEARTS)};
+    Card[] sevenLow = {Card.of(Rank.SEVEN, Suit.CLUBS), Card.of(Rank.SIX, Suit.DIAMONDS),
+        Card.of(Rank.FOUR, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS)};
+    Card[] oneLowCard = {Card.of(Rank.FOUR, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.DIAMONDS),
+        Card.of(Rank.JACK, Suit.SPADES), Card.of(Rank.TEN, Suit.HEARTS)};
+
+    OmahaBoard omahaBoard = new OmahaBoard(Arrays.asList(board));
+    long wheelScore = OmahaAnalyzer.evaluateHiLo(CardCodes.of(Arrays.asList(wheel)), omahaBoard);
+    long sevenLowScore = OmahaAnalyzer.evaluateHiLo(CardCodes.of(Arrays.asList(sevenLow)), omahaBoard);
+    long noLowScore = OmahaAnalyzer.evaluateHiLo(CardCodes.of(Arrays.asList(oneLowCard)), omahaBoard);
+
+    assertEquals(HandRank.STRAIGHT, HandStrength.handRank((int) (wheelScore >>> Integer.SIZE)));
+    assertEquals(OmahaAnalyzer.evaluate(Arrays.asList(sevenLow), omahaBoard), (int) (sevenLowScore >>> Integer.SIZE));
+    assertTrue((int) wheelScore > (int) sevenLowScore);
+    assertTrue((int) sevenLowScore > 0);
+    assertEquals(0, (int) noLowScore);
+  }
+
+  @Test
+  public void testSixCardHandFindsFlushAndFullHouse() {
+    Card[] board = {Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.SEVEN, Suit.HEARTS),
+        Card.of(Rank.SEVEN, Suit.CLUBS), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.FOUR, Suit.SPADES)};
+    Card[] flush = {Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.HEARTS),
+        Card.of(Rank.JACK, Suit.DIAMONDS), Card.of(Rank.THREE, Suit.CLUBS), Card.of(Rank.NINE, Suit.SPADES),
+        Card.of(Rank.TEN, Suit.CLUBS)};
+    Card[] fullHouse = {Card.of(Rank.KING, Suit.SPADES), Card.of(Rank.KING, Suit.DIAMONDS),
+        Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.FIVE, Suit.HEARTS), Card.of(Rank.SIX, Suit.HEARTS),
+        Card.of(Rank.THREE, Suit.DIAMONDS)};
+
+    OmahaBoard omahaBoard = new OmahaBoard(Arrays.asList(board));
+    int flushScore = OmahaAnalyzer.evaluate(Arrays.asList(flush), omahaBoard);
+    int fullHouseScore = OmahaAnalyzer.evaluate(Arrays.asList(fullHouse), omahaBoard);
+
+    assertEquals(HandRank.FLUSH, HandStrength.handRank(flushScore));
+    assertEquals(Rank.ACE, HandStrength.rankAt(flushScore, 0));
+    assertEquals(HandRank.FULL_HOUSE, HandStrength.handRank(fullHouseScore));
+    assertTrue(fullHouseScore > flushScore);
+  }
 }
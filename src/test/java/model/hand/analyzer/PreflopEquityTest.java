@@ -0,0 +1,76 @@
+package model.hand.analyzer;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PreflopEquityTest {
+
+  @Test
+  public void testIndexesCoverEveryComboAndClass() {
+    Set<Integer> combos = new HashSet<>();
+    int[] classSizes = new int[PreflopEquity.CLASS_COUNT];
+    for (int first = 0; first < CardCodes.CARD_COUNT; first++) {
+      for (int second = first + 1; second < CardCodes.CARD_COUNT; second++) {
+        List<Card> holeCards = Arrays.asList(CardCodes.toCard(first), CardCodes.toCard(second));
+        combos.add(PreflopEquity.comboIndex(holeCards));
+        classSizes[PreflopEquity.classIndex(holeCards)]++;
+      }
+    }
+
+    assertEquals(PreflopEquity.COMBO_COUNT, combos.size());
+    int aces = PreflopEquity.classIndex(Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.ACE, Suit.CLUBS)));
+    int suited = PreflopEquity.classIndex(Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS),
+        Card.of(Rank.KING, Suit.HEARTS)));
+    int offsuit = PreflopEquity.classIndex(Arrays.asList(Card.of(Rank.KING, Suit.SPADES),
+        Card.of(Rank.ACE, Suit.HEARTS)));
+    assertEquals(6, classSizes[aces]);
+    assertEquals(4, classSizes[suited]);
+    assertEquals(12, classSizes[offsuit]);
+  }
+
+  @Test
+  public void testEquityIsExactAndSymmetric() {
+    List<Card> aces = Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES));
+    List<Card> kings = Arrays.asList(Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.KING, Suit.DIAMONDS));
+    List<Card> otherAces = Arrays.asList(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.ACE, Suit.DIAMONDS));
+    List<Card> otherKings = Arrays.asList(Card.of(Rank.KING, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS));
+
+    double equity = PreflopEquity.equity(aces, kings);
+    assertEquals(0.81255, equity, 0.00001);
+    assertEquals(1 - equity, PreflopEquity.equity(kings, aces), 1e-9);
+    assertEquals(equity, PreflopEquity.equity(otherAces, otherKings), 1e-9);
+    assertThrows(IllegalArgumentException.class, () -> PreflopEquity.equity(aces,
+        Arrays.asList(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.KING, Suit.CLUBS))));
+  }
+
+  @Test
+  public void testClassTableAveragesCombos() {
+    short[] tables = new short[PreflopEquity.TABLE_LENGTH];
+    for (int first = 0; first < CardCodes.CARD_COUNT; first++) {
+      for (int second = first + 1; second < CardCodes.CARD_COUNT; second++) {
+        List<Card> holeCards = Arrays.asList(CardCodes.toCard(first), CardCodes.toCard(second));
+        int combo = PreflopEquity.comboIndex(holeCards);
+        for (int opponentCombo = 0; opponentCombo < PreflopEquity.COMBO_COUNT; opponentCombo++) {
+          tables[combo * PreflopEquity.COMBO_COUNT + opponentCombo] = (short) PreflopEquity.classIndex(holeCards);
+        }
+      }
+    }
+    PreflopEquity.fillClassTable(tables);
+
+    int offset = PreflopEquity.COMBO_COUNT * PreflopEquity.COMBO_COUNT;
+    for (int handClass = 0; handClass < PreflopEquity.CLASS_COUNT; handClass++) {
+      assertEquals(handClass, tables[offset + handClass * PreflopEquity.CLASS_COUNT + handClass]);
+      assertEquals(handClass, tables[offset + handClass * PreflopEquity.CLASS_COUNT]);
+    }
+  }
+}
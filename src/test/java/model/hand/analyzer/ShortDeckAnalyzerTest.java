@@ -0,0 +1,56 @@
+package model.hand.analyzer;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import model.hand.representation.HandRank;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShortDeckAnalyzerTest {
+
+  @Test
+  public void testFlushBeatsFullHouse() {
+    Card[] flush = {Card.of(Rank.SIX, Suit.HEARTS), Card.of(Rank.EIGHT, Suit.HEARTS),
+        Card.of(Rank.TEN, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.HEARTS), Card.of(Rank.KING, Suit.HEARTS),
+        Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.SEVEN, Suit.SPADES)};
+    Card[] fullHouse = {Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES),
+        Card.of(Rank.ACE, Suit.DIAMONDS), Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.KING, Suit.SPADES),
+        Card.of(Rank.NINE, Suit.CLUBS), Card.of(Rank.SEVEN, Suit.CLUBS)};
+    var flushAnalyzer = new ShortDeckAnalyzer(Arrays.asList(flush));
+    var fullHouseAnalyzer = new ShortDeckAnalyzer(Arrays.asList(fullHouse));
+
+    assertEquals(HandRank.FLUSH, flushAnalyzer.getTopRank());
+    assertEquals(HandRank.FULL_HOUSE, fullHouseAnalyzer.getTopRank());
+    assertTrue(flushAnalyzer.getScore() > fullHouseAnalyzer.getScore());
+  }
+
+  @Test
+  public void testTripsBeatStraight() {
+    Card[] trips = {Card.of(Rank.SIX, Suit.HEARTS), Card.of(Rank.SIX, Suit.CLUBS),
+        Card.of(Rank.SIX, Suit.SPADES), Card.of(Rank.NINE, Suit.HEARTS), Card.of(Rank.JACK, Suit.DIAMONDS)};
+    Card[] straight = {Card.of(Rank.TEN, Suit.HEARTS), Card.of(Rank.JACK, Suit.CLUBS),
+        Card.of(Rank.QUEEN, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.ACE, Suit.DIAMONDS)};
+
+    assertTrue(ShortDeckAnalyzer.evaluate(Arrays.asList(trips))
+        > ShortDeckAnalyzer.evaluate(Arrays.asList(straight)));
+  }
+
+  @Test
+  public void testAceSixWheel() {
+    Card[] wheel = {Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.SIX, Suit.CLUBS),
+        Card.of(Rank.SEVEN, Suit.SPADES), Card.of(Rank.EIGHT, Suit.HEARTS), Card.of(Rank.NINE, Suit.DIAMONDS)};
+    Card[] sixHigh = {Card.of(Rank.TEN, Suit.HEARTS), Card.of(Rank.SIX, Suit.CLUBS),
+        Card.of(Rank.SEVEN, Suit.SPADES), Card.of(Rank.EIGHT, Suit.HEARTS), Card.of(Rank.NINE, Suit.DIAMONDS)};
+    int wheelScore = ShortDeckAnalyzer.evaluate(Arrays.asList(wheel));
+
+    assertEquals(HandRank.STRAIGHT, HandStrength.shortDeckHandRank(wheelScore));
+    assertEquals(Rank.NINE, HandStrength.rankAt(wheelScore, 0));
+    assertEquals(Rank.ONE, HandStrength.rankAt(wheelScore, 4));
+    assertTrue(ShortDeckAnalyzer.evaluate(Arrays.asList(sixHigh)) > wheelScore);
+  }
+}
@@ -0,0 +1,63 @@
+package model.hand.analyzer;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class SuitCanonicalizerTest {
+
+  @Test
+  public void testRelabeledHandsShareCanonicalForm() {
+    long hearts = CardCodes.mask(Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.KING, Suit.HEARTS),
+        Card.of(Rank.TWO, Suit.CLUBS)));
+    long spades = CardCodes.mask(Arrays.asList(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.KING, Suit.SPADES),
+        Card.of(Rank.TWO, Suit.DIAMONDS)));
+    long offsuit = CardCodes.mask(Arrays.asList(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS),
+        Card.of(Rank.TWO, Suit.DIAMONDS)));
+
+    long canonical = SuitCanonicalizer.canonicalMask(hearts);
+    assertEquals(canonical, SuitCanonicalizer.canonicalMask(spades));
+    assertEquals(canonical, SuitCanonicalizer.canonicalMask(canonical));
+    assertNotEquals(canonical, SuitCanonicalizer.canonicalMask(offsuit));
+    assertEquals(3, Long.bitCount(canonical));
+  }
+
+  @Test
+  public void testPermutationMapsCardsAndInverts() {
+    Card aceOfClubs = Card.of(Rank.ACE, Suit.CLUBS);
+    Card twoOfSpades = Card.of(Rank.TWO, Suit.SPADES);
+    long mask = CardCodes.mask(Arrays.asList(aceOfClubs, twoOfSpades));
+    int permutation = SuitCanonicalizer.permutation(mask);
+
+    int ace = SuitCanonicalizer.apply(CardCodes.of(aceOfClubs), permutation);
+    int two = SuitCanonicalizer.apply(CardCodes.of(twoOfSpades), permutation);
+    assertEquals(SuitCanonicalizer.apply(mask, permutation), 1L << ace | 1L << two);
+    assertEquals(0, ace % CardCodes.SUIT_COUNT);
+    assertEquals(1, two % CardCodes.SUIT_COUNT);
+    assertEquals(CardCodes.of(aceOfClubs), SuitCanonicalizer.apply(ace, SuitCanonicalizer.invert(permutation)));
+    assertEquals(mask, SuitCanonicalizer.apply(SuitCanonicalizer.apply(mask, permutation),
+        SuitCanonicalizer.invert(permutation)));
+  }
+
+  @Test
+  public void testSecondaryCardsBreakTies() {
+    long hole = CardCodes.mask(Arrays.asList(Card.of(Rank.SEVEN, Suit.HEARTS), Card.of(Rank.SEVEN, Suit.CLUBS)));
+    long board = CardCodes.mask(Arrays.asList(Card.of(Rank.NINE, Suit.CLUBS), Card.of(Rank.TEN, Suit.CLUBS)));
+    long otherHole = CardCodes.mask(Arrays.asList(Card.of(Rank.SEVEN, Suit.SPADES),
+        Card.of(Rank.SEVEN, Suit.DIAMONDS)));
+    long otherBoard = CardCodes.mask(Arrays.asList(Card.of(Rank.NINE, Suit.SPADES),
+        Card.of(Rank.TEN, Suit.SPADES)));
+
+    int permutation = SuitCanonicalizer.permutation(hole, board);
+    int otherPermutation = SuitCanonicalizer.permutation(otherHole, otherBoard);
+    assertEquals(SuitCanonicalizer.apply(hole, permutation), SuitCanonicalizer.apply(otherHole, otherPermutation));
+    assertEquals(SuitCanonicalizer.apply(board, permutation),
+        SuitCanonicalizer.apply(otherBoard, otherPermutation));
+  }
+}
@@ -0,0 +1,90 @@
+package model.hand.equity;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExhaustiveEquityTest {
+
+  @Test
+  public void testFlushDrawOnTheTurn() {
+    List<Card> board = Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.KING, Suit.HEARTS),
+        Card.of(Rank.SEVEN, Suit.CLUBS), Card.of(Rank.TWO, Suit.DIAMONDS));
+    List<Card> draw = Arrays.asList(Card.of(Rank.QUEEN, Suit.HEARTS), Card.of(Rank.JACK, Suit.HEARTS));
+    List<Card> twoPair = Arrays.asList(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.KING, Suit.SPADES));
+    var result = new ExhaustiveEquity(EquityGame.HOLD_EM).calculate(Arrays.asList(draw, twoPair), board);
+
+    assertEquals(44, result.getBoards());
+    assertEquals(12.0 / 44, result.getWin(0), 1e-12);
+    assertEquals(32.0 / 44, result.getWin(1), 1e-12);
+  }
+
+  @Test
+  public void testInterchangeableSuitsCountEveryBoard() {
+    List<Card> aces = Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.ACE, Suit.DIAMONDS));
+    List<Card> kings = Arrays.asList(Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.KING, Suit.DIAMONDS));
+    var result = new ExhaustiveEquity(EquityGame.HOLD_EM).calculate(Arrays.asList(aces, kings),
+        Collections.emptyList());
+
+    assertEquals(1_712_304, result.getBoards());
+    assertEquals(0.826366, result.getEquity(0), 1e-6);
+    assertEquals(result.getTie(0), result.getTie(1));
+  }
+
+  @Test
+  public void testCompleteBoard() {
+    List<Card> board = Arrays.asList(Card.of(Rank.TEN, Suit.CLUBS), Card.of(Rank.JACK, Suit.DIAMONDS),
+        Card.of(Rank.QUEEN, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.ACE, Suit.HEARTS));
+    List<Card> twos = Arrays.asList(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.TWO, Suit.DIAMONDS));
+    List<Card> threes = Arrays.asList(Card.of(Rank.THREE, Suit.CLUBS), Card.of(Rank.THREE, Suit.DIAMONDS));
+    var result = new ExhaustiveEquity(EquityGame.HOLD_EM).calculate(Arrays.asList(twos, threes), board);
+
+    assertEquals(1, result.getBoards());
+    assertEquals(0.5, result.getEquity(0));
+  }
+
+  @Test
+  public void testHiLoSplitsThePot() {
+    List<Card> board = Arrays.asList(Card.of(Rank.FIVE, Suit.CLUBS), Card.of(Rank.SIX, Suit.DIAMONDS),
+        Card.of(Rank.SEVEN, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.SPADES), Card.of(Rank.JACK, Suit.CLUBS));
+    List<Card> bestLow = Arrays.asList(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.TWO, Suit.SPADES),
+        Card.of(Rank.KING, Suit.DIAMONDS), Card.of(Rank.KING, Suit.CLUBS));
+    List<Card> bestHigh = Arrays.asList(Card.of(Rank.QUEEN, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.DIAMONDS),
+        Card.of(Rank.THREE, Suit.HEARTS), Card.of(Rank.FOUR, Suit.HEARTS));
+    var result = new ExhaustiveEquity(EquityGame.OMAHA_HI_LO).calculate(Arrays.asList(bestLow, bestHigh), board);
+
+    assertEquals(0.5, result.getEquity(0));
+    assertEquals(0.5, result.getEquity(1));
+    assertEquals(1, result.getTie(0));
+
+    List<Card> noLowBoard = Arrays.asList(Card.of(Rank.NINE, Suit.CLUBS), Card.of(Rank.SIX, Suit.DIAMONDS),
+        Card.of(Rank.SEVEN, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.SPADES), Card.of(Rank.JACK, Suit.CLUBS));
+    result = new ExhaustiveEquity(EquityGame.OMAHA_HI_LO).calculate(Arrays.asList(bestLow, bestHigh), noLowBoard);
+
+    assertEquals(0, result.getEquity(0));
+    assertEquals(1, result.getWin(1));
+  }
+
+  @Test
+  public void testHiLoEquitiesSumToOne() {
+    List<Card> board = Arrays.asList(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.FOUR, Suit.DIAMONDS),
+        Card.of(Rank.KING, Suit.HEARTS));
+    List<Card> lowDraw = Arrays.asList(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.THREE, Suit.SPADES),
+        Card.of(Rank.NINE, Suit.DIAMONDS), Card.of(Rank.TEN, Suit.CLUBS));
+    List<Card> kings = Arrays.asList(Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.KING, Suit.DIAMONDS),
+        Card.of(Rank.JACK, Suit.HEARTS), Card.of(Rank.JACK, Suit.SPADES));
+    var result = new ExhaustiveEquity(EquityGame.OMAHA_HI_LO).calculate(Arrays.asList(lowDraw, kings), board);
+
+    assertEquals(1, result.getEquity(0) + result.getEquity(1), 1e-12);
+    var highOnly = new ExhaustiveEquity(EquityGame.OMAHA).calculate(Arrays.asList(lowDraw, kings), board);
+    assertTrue(result.getEquity(0) > highOnly.getEquity(0));
+  }
+}
@@ -0,0 +1,85 @@
+package model.hand.equity;
+
+import model.card.Card;
+import model.card.Card.Rank;
+import model.card.Card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MonteCarloEquityTest {
+
+  private final List<Card> aces = Arrays.asList(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.ACE, Suit.DIAMONDS));
+  private final List<Card> kings = Arrays.asList(Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.KING, Suit.SPADES));
+
+  @Test
+  public void testAcesAgainstKingsPreflop() {
+    var equity = new MonteCarloEquity(EquityGame.HOLD_EM, 200_000, 0.005, ForkJoinPool.commonPool(),
+        new SplittableRandom(42));
+    var result = equity.estimate(Arrays.asList(aces, kings), Collections.emptyList());
+
+    assertEquals(0.82, result.getEquity(0), 0.02);
+    assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+    assertTrue(result.getBoards() <= 200_000);
+  }
+
+  @Test
+  public void testCompleteBoardIsExact() {
+    List<Card> board = Arrays.asList(Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.TWO, Suit.DIAMONDS),
+        Card.of(Rank.SEVEN, Suit.SPADES), Card.of(Rank.NINE, Suit.HEARTS), Card.of(Rank.JACK, Suit.CLUBS));
+    var result = new MonteCarloEquity(EquityGame.HOLD_EM, 1000, 0).estimate(Arrays.asList(aces, kings), board);
+
+    assertEquals(1, result.getBoards());
+    assertEquals(0.0, result.getEquity(0));
+    assertEquals(1.0, result.getWin(1));
+  }
+
+  @Test
+  public void testSplitPotOnBoardStraight() {
+    List<Card> board = Arrays.asList(Card.of(Rank.TEN, Suit.CLUBS), Card.of(Rank.JACK, Suit.DIAMONDS),
+        Card.of(Rank.QUEEN, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.ACE, Suit.HEARTS));
+    List<Card> twos = Arrays.asList(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.TWO, Suit.DIAMONDS));
+    List<Card> threes = Arrays.asList(Card.of(Rank.THREE, Suit.CLUBS), Card.of(Rank.THREE, Suit.DIAMONDS));
+    var result = new MonteCarloEquity(EquityGame.HOLD_EM, 1000, 0).estimate(Arrays.asList(twos, threes), board);
+
+    assertEquals(1.0, result.getTie(0));
+    assertEquals(0.5, result.getEquity(1));
+  }
+
+  @Test
+  public void testOmahaUsesTwoHoleCards() {
+    List<Card> board = Arrays.asList(Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.SEVEN, Suit.HEARTS),
+        Card.of(Rank.NINE, Suit.HEARTS), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.FOUR, Suit.CLUBS));
+    List<Card> oneHeart = Arrays.asList(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES),
+        Card.of(Rank.JACK, Suit.DIAMONDS), Card.of(Rank.THREE, Suit.CLUBS));
+    List<Card> twoHearts = Arrays.asList(Card.of(Rank.FIVE, Suit.HEARTS), Card.of(Rank.SIX, Suit.HEARTS),
+        Card.of(Rank.JACK, Suit.SPADES), Card.of(Rank.THREE, Suit.SPADES));
+    var result = new MonteCarloEquity(EquityGame.OMAHA, 1000, 0).estimate(Arrays.asList(oneHeart, twoHearts), board);
+
+    assertEquals(1.0, result.getWin(1));
+  }
+
+  @Test
+  public void testDuplicateCardRejected() {
+    var equity = new MonteCarloEquity(EquityGame.HOLD_EM, 1000, 0);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> equity.estimate(Arrays.asList(aces, aces), Collections.emptyList()));
+  }
+
+  @Test
+  public void testInvalidLimitsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloEquity(EquityGame.HOLD_EM, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloEquity(EquityGame.HOLD_EM, -1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloEquity(EquityGame.HOLD_EM, 1000, -0.01));
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloEquity(EquityGame.HOLD_EM, 1000, Double.NaN));
+  }
+}
@@ -1,6 +1,7 @@
 package model.hand.representation;
 
 import model.card.Card;
+import model.hand.analyzer.HoldEmAnalyzer;
 import model.option.Option;
 import model.player.Player;
 import model.player.TestPlayer;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,6 +56,29 @@ public class HandTest {
     assertNotEquals(player1.getHand(), player2.getHand());
   }
 
+  @Test
+  public void testDealSixCardOmahaHand() {
+    var omahaHand = new OmahaHand(20, 40, 0, players, 6);
+
+    player1.setMaxCards(6);
+    player2.setMaxCards(6);
+
+    omahaHand.dealInitialHand();
+
+    assertEquals(6, player1.getHand().size());
+    assertEquals(6, player2.getHand().size());
+  }
+
+  @Test
+  public void testSixCardOmahaNeedsEnoughCards() {
+    var crowdedTable = new ArrayList<Player>();
+    for (int i = 0; i < 8; i++) {
+      crowdedTable.add(new Player(2000, "P" + i));
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> new OmahaHand(20, 40, 0, crowdedTable, 6));
+  }
+
   @Test
   public void testDealPineappleHand() {
     var pineappleHand = new PineappleHand(20, 40, 0, players);
@@ -86,6 +111,36 @@ public class HandTest {
     assertEquals(hand.getCommunityCards().size(), 1);
   }
 
+  @Test
+  public void testHandStateFollowsEachStreet() {
+    hand.dealInitialHand();
+    var state = hand.getHandState(player1);
+    assertEquals(2, state.size());
+
+    hand.dealFlop();
+    hand.dealTurn();
+    assertSame(state, hand.getHandState(player1));
+    assertEquals(6, state.size());
+
+    hand.dealRiver();
+    List<Card> cards = new ArrayList<>(player1.getHand());
+    cards.addAll(hand.getCommunityCards());
+    assertEquals(HoldEmAnalyzer.evaluate(cards), state.getScore());
+    assertTrue(hand.getDraws(player1).isEmpty());
+  }
+
+  @Test
+  public void testCalculateEquityOnTheTurn() {
+    hand.dealInitialHand();
+    hand.dealFlop();
+    hand.dealTurn();
+    var equity = hand.calculateEquity();
+
+    assertEquals(2, equity.getNumPlayers());
+    assertEquals(44, equity.getBoards());
+    assertEquals(1.0, equity.getEquity(0) + equity.getEquity(1), 1e-9);
+  }
+
   @Test
   public void testChargeAntesBasic() {
     hand.dealInitialHand();
@@ -341,11 +396,11 @@ public class HandTest {
   public void testPlayerWinMultiplePots() {
     setupBoard1();
 
-    Card player1Card = new Card(Card.Rank.KING, Card.Suit.CLUBS);
-    Card player1Card1 = new Card(Card.Rank.ACE, Card.Suit.DIAMONDS);
+    Card player1Card = Card.of(Card.Rank.KING, Card.Suit.CLUBS);
+    Card player1Card1 = Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS);
 
-    Card player2Card = new Card(Card.Rank.JACK, Card.Suit.DIAMONDS);
-    Card player2Card1 = new Card(Card.Rank.SIX, Card.Suit.CLUBS);
+    Card player2Card = Card.of(Card.Rank.JACK, Card.Suit.DIAMONDS);
+    Card player2Card1 = Card.of(Card.Rank.SIX, Card.Suit.CLUBS);
 
     player1.setHand(new Card[] {player1Card, player1Card1});
     player2.setHand(new Card[] {player2Card, player2Card1});
@@ -359,11 +414,11 @@ public class HandTest {
   public void testPlayerWinSinglePotWithRefund() {
     setupBoard1();
 
-    Card player1Card = new Card(Card.Rank.THREE, Card.Suit.CLUBS);
-    Card player1Card1 = new Card(Card.Rank.FOUR, Card.Suit.SPADES);
+    Card player1Card = Card.of(Card.Rank.THREE, Card.Suit.CLUBS);
+    Card player1Card1 = Card.of(Card.Rank.FOUR, Card.Suit.SPADES);
 
-    Card player2Card = new Card(Card.Rank.ACE, Card.Suit.DIAMONDS);
-    Card player2Card1 = new Card(Card.Rank.SEVEN, Card.Suit.DIAMONDS);
+    Card player2Card = Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS);
+    Card player2Card1 = Card.of(Card.Rank.SEVEN, Card.Suit.DIAMONDS);
 
     player1.setHand(new Card[] {player1Card, player1Card1});
     player2.setHand(new Card[] {player2Card, player2Card1});
@@ -373,12 +428,65 @@ public class HandTest {
     assertEquals(4000, player2.getBalance(), 0);
   }
 
+  @Test
+  public void testPayWinnerAfterEarlierFold() {
+    TestPlayer player3 = new TestPlayer(2000, "P3");
+    players = new ArrayList<>(Arrays.asList(player1, player2, player3));
+    hand = new TestHand(60, 120, 30, players);
+    hand.setCommunityCards(new Card[] {Card.of(Card.Rank.ACE, Card.Suit.CLUBS),
+        Card.of(Card.Rank.JACK, Card.Suit.CLUBS), Card.of(Card.Rank.TEN, Card.Suit.DIAMONDS),
+        Card.of(Card.Rank.THREE, Card.Suit.SPADES), Card.of(Card.Rank.TWO, Card.Suit.CLUBS)});
+    player1.setHand(new Card[] {Card.of(Card.Rank.ACE, Card.Suit.DIAMONDS),
+        Card.of(Card.Rank.ACE, Card.Suit.HEARTS)});
+    player2.setHand(new Card[] {Card.of(Card.Rank.FOUR, Card.Suit.DIAMONDS),
+        Card.of(Card.Rank.SIX, Card.Suit.HEARTS)});
+    player3.setHand(new Card[] {Card.of(Card.Rank.KING, Card.Suit.DIAMONDS),
+        Card.of(Card.Rank.QUEEN, Card.Suit.HEARTS)});
+
+    hand.executeOption(player1, fold);
+    hand.executeOption(player2, bet);
+    hand.executeOption(player3, new Option(Option.OptionType.CALL, 100));
+    hand.payWinners();
+
+    assertEquals(2000, player1.getBalance(), 0);
+    assertEquals(1900, player2.getBalance(), 0);
+    assertEquals(2100, player3.getBalance(), 0);
+  }
+
+  @Test
+  public void testOmahaHiLoSplitsOddCents() {
+    TestPlayer player3 = new TestPlayer(2000, "P3");
+    players = new ArrayList<>(Arrays.asList(player1, player2, player3));
+    var hiLoHand = new OmahaHiLoHand(60, 120, 30, players);
+    hiLoHand.communityCards.addAll(Arrays.asList(Card.of(Card.Rank.ACE, Card.Suit.HEARTS),
+        Card.of(Card.Rank.TWO, Card.Suit.CLUBS), Card.of(Card.Rank.THREE, Card.Suit.DIAMONDS),
+        Card.of(Card.Rank.KING, Card.Suit.CLUBS), Card.of(Card.Rank.QUEEN, Card.Suit.SPADES)));
+    player1.setHand(new Card[] {Card.of(Card.Rank.KING, Card.Suit.HEARTS),
+        Card.of(Card.Rank.KING, Card.Suit.DIAMONDS), Card.of(Card.Rank.QUEEN, Card.Suit.HEARTS),
+        Card.of(Card.Rank.QUEEN, Card.Suit.DIAMONDS)});
+    player2.setHand(new Card[] {Card.of(Card.Rank.SIX, Card.Suit.CLUBS),
+        Card.of(Card.Rank.SEVEN, Card.Suit.DIAMONDS), Card.of(Card.Rank.NINE, Card.Suit.SPADES),
+        Card.of(Card.Rank.NINE, Card.Suit.HEARTS)});
+    player3.setHand(new Card[] {Card.of(Card.Rank.SIX, Card.Suit.HEARTS),
+        Card.of(Card.Rank.SEVEN, Card.Suit.SPADES), Card.of(Card.Rank.JACK, Card.Suit.CLUBS),
+        Card.of(Card.Rank.JACK, Card.Suit.DIAMONDS)});
+
+    hiLoHand.executeOption(player1, new Option(Option.OptionType.BET, 100.01));
+    hiLoHand.executeOption(player2, new Option(Option.OptionType.CALL, 100.01));
+    hiLoHand.executeOption(player3, new Option(Option.OptionType.CALL, 100.01));
+    hiLoHand.payWinners();
+
+    assertEquals(2050.01, player1.getBalance(), 1e-9);
+    assertEquals(1975.00, player2.getBalance(), 1e-9);
+    assertEquals(1974.99, player3.getBalance(), 1e-9);
+  }
+
   private void setupBoard1() {
-    Card card1 = new Card(Card.Rank.ACE, Card.Suit.CLUBS);
-    Card card2 = new Card(Card.Rank.JACK, Card.Suit.CLUBS);
-    Card card3 = new Card(Card.Rank.TEN, Card.Suit.DIAMONDS);
-    Card card4 = new Card(Card.Rank.THREE, Card.Suit.SPADES);
-    Card card5 = new Card(Card.Rank.TWO, Card.Suit.CLUBS);
+    Card card1 = Card.of(Card.Rank.ACE, Card.Suit.CLUBS);
+    Card card2 = Card.of(Card.Rank.JACK, Card.Suit.CLUBS);
+    Card card3 = Card.of(Card.Rank.TEN, Card.Suit.DIAMONDS);
+    Card card4 = Card.of(Card.Rank.THREE, Card.Suit.SPADES);
+    Card card5 = Card.of(Card.Rank.TWO, Card.Suit.CLUBS);
 
     hand.setCommunityCards(new Card[] {card1, card2, card3, card4, card5});
 
@@ -439,4 +547,31 @@ public class HandTest {
     assertTrue(options.contains(new Option(Option.OptionType.ALLIN, player1.getBalance())));
     assertTrue(options.contains(new Option(Option.OptionType.FOLD, 0)));
   }
+
+  @Test
+  public void testShortDeckPlayerWithoutCardsHasNoRank() {
+    var shortDeckHand = new ShortDeckHand(60, 120, 30, players);
+    shortDeckHand.communityCards.addAll(Arrays.asList(Card.of(Card.Rank.ACE, Card.Suit.HEARTS),
+        Card.of(Card.Rank.ACE, Card.Suit.SPADES), Card.of(Card.Rank.KING, Card.Suit.CLUBS),
+        Card.of(Card.Rank.NINE, Card.Suit.DIAMONDS), Card.of(Card.Rank.SIX, Card.Suit.HEARTS)));
+
+    assertNull(shortDeckHand.getCurrentHandRank(player1));
+    player1.addCard(Card.of(Card.Rank.ACE, Card.Suit.CLUBS));
+    player1.addCard(Card.of(Card.Rank.SEVEN, Card.Suit.CLUBS));
+    assertEquals(HandRank.THREE_OF_A_KIND, shortDeckHand.getCurrentHandRank(player1));
+  }
+
+  @Test
+  public void testShortDeckWheelDraw() {
+    var shortDeckHand = new ShortDeckHand(60, 120, 30, players);
+    var board = Arrays.asList(Card.of(Card.Rank.SEVEN, Card.Suit.HEARTS), Card.of(Card.Rank.EIGHT, Card.Suit.SPADES),
+        Card.of(Card.Rank.KING, Card.Suit.CLUBS));
+    shortDeckHand.communityCards.addAll(board);
+    hand.communityCards.addAll(board);
+    player1.addCard(Card.of(Card.Rank.ACE, Card.Suit.CLUBS));
+    player1.addCard(Card.of(Card.Rank.SIX, Card.Suit.DIAMONDS));
+
+    assertEquals(List.of(Hand.STRAIGHT_DRAW), shortDeckHand.getDraws(player1));
+    assertTrue(hand.getDraws(player1).isEmpty());
+  }
 }
@@ -16,10 +16,10 @@ public class PlayerTest {
   public void testAddCard() {
     Player p1 = new Player(0, "");
     ArrayList<Card> cards = new ArrayList<>();
-    cards.add(new Card(Rank.ACE, Suit.CLUBS));
-    cards.add(new Card(Rank.TWO, Suit.DIAMONDS));
-    cards.add(new Card(Rank.EIGHT, Suit.HEARTS));
-    cards.add(new Card(Rank.THREE, Suit.SPADES));
+    cards.add(Card.of(Rank.ACE, Suit.CLUBS));
+    cards.add(Card.of(Rank.TWO, Suit.DIAMONDS));
+    cards.add(Card.of(Rank.EIGHT, Suit.HEARTS));
+    cards.add(Card.of(Rank.THREE, Suit.SPADES));
 
     for (Card card : cards) {
       p1.addCard(card);
@@ -32,7 +32,7 @@ public class PlayerTest {
   @Test
   public void testResetStatus() {
     Player p1 = new Player(0, "Player");
-    p1.addCard(new Card(Rank.ACE, Suit.CLUBS));
+    p1.addCard(Card.of(Rank.ACE, Suit.CLUBS));
     p1.addAmountThisTurn(100);
     p1.resetStatus();
 
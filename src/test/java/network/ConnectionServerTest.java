@@ -0,0 +1,151 @@
+package network;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionServerTest {
+
+  @Test
+  public void testEchoAndClose() throws Exception {
+    CountDownLatch closed = new CountDownLatch(1);
+    ConnectionListener echo = new ConnectionListener() {
+      @Override
+      public void onFrame(Connection connection, String frame) {
+        connection.send("echo " + frame);
+      }
+
+      @Override
+      public void onClose(Connection connection) {
+        closed.countDown();
+      }
+    };
+    try (ConnectionServer server = new ConnectionServer(2, LineFrameCodec::new, echo)) {
+      server.bind(0);
+      Thread acceptor = new Thread(() -> {
+        try {
+          server.serve();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      acceptor.start();
+
+      try (Socket socket = new Socket("localhost", server.getPort())) {
+        OutputStream output = socket.getOutputStream();
+        BufferedReader input = new BufferedReader(
+            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        output.write("hello\nwor".getBytes(StandardCharsets.UTF_8));
+        output.flush();
+        assertEquals("echo hello", input.readLine());
+        output.write("ld\n".getBytes(StandardCharsets.UTF_8));
+        output.flush();
+        assertEquals("echo world", input.readLine());
+      }
+      assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testSlowClientIsClosed() throws Exception {
+    CountDownLatch opened = new CountDownLatch(1);
+    CountDownLatch closed = new CountDownLatch(1);
+    Connection[] connection = new Connection[1];
+    ConnectionListener listener = new ConnectionListener() {
+      @Override
+      public void onOpen(Connection open) {
+        connection[0] = open;
+        opened.countDown();
+      }
+
+      @Override
+      public void onFrame(Connection connection, String frame) {
+      }
+
+      @Override
+      public void onClose(Connection connection) {
+        closed.countDown();
+      }
+    };
+    try (ConnectionServer server = new ConnectionServer(1, 1 << 16, LineFrameCodec::new, listener)) {
+      server.bind(0);
+      Thread acceptor = new Thread(() -> {
+        try {
+          server.serve();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      acceptor.start();
+
+      try (Socket socket = new Socket("localhost", server.getPort())) {
+        assertTrue(opened.await(5, TimeUnit.SECONDS));
+        String update = "x".repeat(4096);
+        boolean queued = true;
+        for (int i = 0; i < 100_000 && queued; i++) {
+          queued = connection[0].send(update);
+          assertTrue(connection[0].getQueuedBytes() <= 1 << 16);
+        }
+        assertFalse(queued);
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertFalse(connection[0].send(update));
+      }
+    }
+  }
+
+  @Test
+  public void testFailingConnectionDoesNotCloseItsLoop() throws Exception {
+    CountDownLatch closed = new CountDownLatch(1);
+    ConnectionListener listener = new ConnectionListener() {
+      @Override
+      public void onFrame(Connection connection, String frame) {
+        if (frame.equals("boom")) {
+          throw new IllegalStateException("Listener bug");
+        }
+        connection.send("echo " + frame);
+      }
+
+      @Override
+      public void onClose(Connection connection) {
+        closed.countDown();
+      }
+    };
+    try (ConnectionServer server = new ConnectionServer(1, LineFrameCodec::new, listener)) {
+      server.bind(0);
+      Thread acceptor = new Thread(() -> {
+        try {
+          server.serve();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      acceptor.start();
+
+      try (Socket healthy = new Socket("localhost", server.getPort());
+           Socket failing = new Socket("localhost", server.getPort())) {
+        BufferedReader input = new BufferedReader(
+            new InputStreamReader(healthy.getInputStream(), StandardCharsets.UTF_8));
+        healthy.getOutputStream().write("hello\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("echo hello", input.readLine());
+
+        failing.getOutputStream().write("boom\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertEquals(-1, failing.getInputStream().read());
+
+        healthy.getOutputStream().write("again\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("echo again", input.readLine());
+      }
+    }
+  }
+}
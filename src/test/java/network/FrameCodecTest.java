@@ -0,0 +1,58 @@
+package network;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FrameCodecTest {
+
+  @Test
+  public void testLinesSplitAcrossReads() throws IOException {
+    FrameCodec codec = new LineFrameCodec();
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    List<String> frames = new ArrayList<>();
+
+    buffer.put("Ann:100\r\n2:".getBytes(StandardCharsets.UTF_8)).flip();
+    codec.decode(buffer, frames::add);
+    buffer.compact();
+    assertEquals(List.of("Ann:100"), frames);
+
+    buffer.put("4.5\n".getBytes(StandardCharsets.UTF_8)).flip();
+    codec.decode(buffer, frames::add);
+    assertEquals(List.of("Ann:100", "2:4.5"), frames);
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void testLineLongerThanBufferIsRejected() {
+    FrameCodec codec = new LineFrameCodec();
+    ByteBuffer buffer = ByteBuffer.allocate(4).put("1234".getBytes(StandardCharsets.UTF_8)).flip();
+
+    assertThrows(IOException.class, () -> codec.decode(buffer, frame -> { }));
+  }
+
+  @Test
+  public void testLengthFramesRoundTrip() throws IOException {
+    FrameCodec codec = new LengthFrameCodec();
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    ByteBuffer first = codec.encode("multi\nline");
+    ByteBuffer second = codec.encode("next");
+    List<String> frames = new ArrayList<>();
+
+    buffer.put(first).put(second.slice(0, 3)).flip();
+    codec.decode(buffer, frames::add);
+    buffer.compact();
+    assertEquals(List.of("multi\nline"), frames);
+
+    buffer.put(second.position(3)).flip();
+    codec.decode(buffer, frames::add);
+    assertEquals(List.of("multi\nline", "next"), frames);
+  }
+}